@@ -122,6 +122,18 @@ public class Configuration {
      * in Neo4j-OGM 4.0. Use this flag to restore the old behaviour.
      */
     private Boolean useStrictQuerying;
+    private int saveBatchSize;
+    /**
+     * This flag instructs OGM to trust the application to mark every changed, already loaded entity as dirty instead of
+     * checking all reachable entities for changes when saving.
+     */
+    private boolean useExplicitChangeTracking;
+    private TransactionBinding transactionBinding;
+    /**
+     * This flag instructs OGM to derive save events from the entities written by a save instead of checking all
+     * reachable entities for changes a second time.
+     */
+    private boolean useLightweightEvents;
     /**
      * Base packages to scan for annotated components. They will be merged into a unique list
      * of packages with the programmatically registered packages to scan.
@@ -153,6 +165,11 @@ public class Configuration {
         this.useNativeTypes = builder.useNativeTypes;
         this.basePackages = builder.basePackages;
         this.useStrictQuerying = builder.useStrictQuerying;
+        this.saveBatchSize = builder.saveBatchSize != null && builder.saveBatchSize > 0 ? builder.saveBatchSize : 0;
+        this.useExplicitChangeTracking = builder.useExplicitChangeTracking;
+        this.transactionBinding = Optional.ofNullable(builder.transactionBinding)
+            .map(TransactionBinding::fromString).orElse(TransactionBinding.THREAD);
+        this.useLightweightEvents = builder.useLightweightEvents;
         this.database = Optional.ofNullable(builder.database).map(String::trim).filter(s -> !s.isEmpty()).orElse(null);
 
         URI parsedUri = getSingleURI();
@@ -297,6 +314,34 @@ public class Configuration {
         return useStrictQuerying;
     }
 
+    /**
+     * @return The maximum number of entities or relationships written by a single statement, {@literal 0} means no limit
+     */
+    public int getSaveBatchSize() {
+        return saveBatchSize;
+    }
+
+    /**
+     * @return True if loaded entities are only saved when they have been marked as dirty
+     */
+    public boolean getUseExplicitChangeTracking() {
+        return useExplicitChangeTracking;
+    }
+
+    /**
+     * @return What the current transaction of a session is bound to
+     */
+    public TransactionBinding getTransactionBinding() {
+        return transactionBinding;
+    }
+
+    /**
+     * @return True if save events are only fired for the entities that are actually written
+     */
+    public boolean getUseLightweightEvents() {
+        return useLightweightEvents;
+    }
+
     public String[] getBasePackages() {
         return basePackages;
     }
@@ -336,14 +381,19 @@ public class Configuration {
             Objects.equals(verifyConnection, that.verifyConnection) &&
             Objects.equals(useNativeTypes, that.useNativeTypes) &&
             Arrays.equals(basePackages, that.basePackages) &&
-            Objects.equals(useStrictQuerying, that.useStrictQuerying);
+            Objects.equals(useStrictQuerying, that.useStrictQuerying) &&
+            saveBatchSize == that.saveBatchSize &&
+            useExplicitChangeTracking == that.useExplicitChangeTracking &&
+            transactionBinding == that.transactionBinding &&
+            useLightweightEvents == that.useLightweightEvents;
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(uri, connectionPoolSize, encryptionLevel, trustStrategy, trustCertFile, autoIndex,
             generatedIndexesOutputDir, generatedIndexesOutputFilename, neo4jConfLocation, driverName, credentials,
-            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes);
+            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes, saveBatchSize, useExplicitChangeTracking,
+            transactionBinding, useLightweightEvents);
         result = 31 * result + Arrays.hashCode(uris);
         result = 31 * result + Arrays.hashCode(basePackages);
         return result;
@@ -374,6 +424,10 @@ public class Configuration {
         private static final String BASE_PACKAGES = "base-packages";
         private static final String USE_STRICT_QUERYING = "use-strict-querying";
         private static final String DATABASE = "database";
+        private static final String SAVE_BATCH_SIZE = "save.batch.size";
+        private static final String USE_EXPLICIT_CHANGE_TRACKING = "use-explicit-change-tracking";
+        private static final String TRANSACTION_BINDING = "transaction.binding";
+        private static final String USE_LIGHTWEIGHT_EVENTS = "use-lightweight-events";
         private String uri;
         private String[] uris;
         private Integer connectionPoolSize;
@@ -393,6 +447,10 @@ public class Configuration {
         private String[] basePackages;
         private boolean useStrictQuerying = true;
         private String database;
+        private Integer saveBatchSize;
+        private boolean useExplicitChangeTracking;
+        private String transactionBinding;
+        private boolean useLightweightEvents;
 
         /**
          * Creates new Configuration builder
@@ -468,6 +526,18 @@ public class Configuration {
                             this.database = value.trim();
                         }
                         break;
+                    case SAVE_BATCH_SIZE:
+                        this.saveBatchSize = Integer.valueOf(value);
+                        break;
+                    case USE_EXPLICIT_CHANGE_TRACKING:
+                        this.useExplicitChangeTracking = Boolean.valueOf(value);
+                        break;
+                    case TRANSACTION_BINDING:
+                        this.transactionBinding = value;
+                        break;
+                    case USE_LIGHTWEIGHT_EVENTS:
+                        this.useLightweightEvents = Boolean.valueOf(value);
+                        break;
                     default:
                         LOGGER.warn("Could not process property with key: {}", entry.getKey());
                 }
@@ -489,6 +559,8 @@ public class Configuration {
                 .neo4jConfLocation(builder.neo4jConfLocation)
                 .credentials(builder.username, builder.password)
                 .database(builder.database)
+                .saveBatchSize(builder.saveBatchSize)
+                .transactionBinding(builder.transactionBinding)
                 .customProperties(new HashMap<>(builder.customProperties));
 
             if (builder.useStrictQuerying) {
@@ -496,6 +568,12 @@ public class Configuration {
             } else {
                 copiedBuilder.relaxedQuerying();
             }
+            if (builder.useExplicitChangeTracking) {
+                copiedBuilder.useExplicitChangeTracking();
+            }
+            if (builder.useLightweightEvents) {
+                copiedBuilder.useLightweightEvents();
+            }
             return copiedBuilder;
         }
 
@@ -684,6 +762,55 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Turns on explicit change tracking. By default, Neo4j-OGM checks every entity reachable from a saved object
+         * for changes. With explicit change tracking, an entity that has been loaded or saved before is regarded as
+         * unchanged unless it has been marked via {@code Session#markDirty(Object)}. Unchanged
+         * entities are neither checked for changes nor traversed when saving, so that saving a small change in a large
+         * object graph does not cost a walk over the whole graph.
+         * <p>
+         * Entities that have been marked as dirty are saved with the next save of the session, even if they are not
+         * reachable from the saved object through dirty or new entities.
+         *
+         * @return the changed builder
+         * @since 4.0
+         */
+        public Builder useExplicitChangeTracking() {
+            this.useExplicitChangeTracking = true;
+            return this;
+        }
+
+        /**
+         * Configures what the current transaction of a session is bound to. Use {@code session} when a session and its
+         * transaction are handed between tasks of an executor, or when sessions are used from many short lived threads,
+         * so that no transaction state is kept per thread.
+         *
+         * @param transactionBinding One of {@code thread} (the default) or {@code session}
+         * @return the changed builder
+         * @see TransactionBinding
+         * @since 4.0
+         */
+        public Builder transactionBinding(String transactionBinding) {
+            this.transactionBinding = transactionBinding;
+            return this;
+        }
+
+        /**
+         * Turns on lightweight save events. By default, Neo4j-OGM compares the relationships of all entities reachable
+         * from a saved object with the ones it knows to find out which of them change before it fires pre save events.
+         * With lightweight events, only new entities and entities with changed properties receive events, which saves
+         * copying and comparing the known relationships. Entities that are only touched through a new or deleted
+         * relationship don't receive events in this mode. Post save events of one save are delivered to each listener
+         * at once through {@code EventListener#onPostSaveBatch}.
+         *
+         * @return the changed builder
+         * @since 4.0
+         */
+        public Builder useLightweightEvents() {
+            this.useLightweightEvents = true;
+            return this;
+        }
+
         /**
          * Configures the builder with a list of base packages to scan.
          *
@@ -710,6 +837,21 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Limits the number of entities or relationships of the same kind that are written by a single statement
+         * when saving. Larger groups are split over several statements, that are sent together in the same
+         * transaction. This keeps the parameters of a single statement small when saving large collections.
+         *
+         * @param saveBatchSize The maximum number of rows per statement, {@literal null} or anything less than
+         *                      {@literal 1} for no limit
+         * @return the changed builder
+         * @since 4.0
+         */
+        public Builder saveBatchSize(Integer saveBatchSize) {
+            this.saveBatchSize = saveBatchSize;
+            return this;
+        }
+
         public Configuration build() {
             return new Configuration(this);
         }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.config;
+
+import static java.util.stream.Collectors.*;
+
+import java.util.Arrays;
+
+/**
+ * Denotes what the current transaction of a session is bound to.
+ *
+ * @since 4.0
+ */
+public enum TransactionBinding {
+    /**
+     * The current transaction is bound to the thread that opened it. Each thread using a session sees its own
+     * transaction. This is the default.
+     */
+    THREAD("thread"),
+
+    /**
+     * The current transaction is bound to the session. It is visible from every thread using the session, so that a
+     * unit of work can be handed from one task to another. The session must still not be used by several threads
+     * at the same time.
+     */
+    SESSION("session");
+
+    /**
+     * Parses an option name into the Enumeration type it represents.
+     *
+     * @param name The lowercase name to parse.
+     * @return The <code>TransactionBinding</code> this name represents, or <code>null</code> if the name is null.
+     * @throws IllegalArgumentException if the name doesn't denote a transaction binding
+     */
+    public static TransactionBinding fromString(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (TransactionBinding binding : TransactionBinding.values()) {
+            if (name.trim().equalsIgnoreCase(binding.name)) {
+                return binding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown transaction binding '" + name + "', allowed values are: "
+            + Arrays.stream(TransactionBinding.values()).map(TransactionBinding::getName).collect(joining(", ")));
+    }
+
+    private final String name;
+
+    TransactionBinding(String name) {
+
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
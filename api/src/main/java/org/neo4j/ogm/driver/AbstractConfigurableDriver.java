@@ -77,9 +77,6 @@ public abstract class AbstractConfigurableDriver implements Driver {
             String.class
         ).collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
 
-    private final ThreadLocal<ServiceLoader<CypherModificationProvider>> cypherModificationProviderLoader =
-        ThreadLocal.withInitial(() -> ServiceLoader.load(CypherModificationProvider.class));
-
     protected Configuration configuration;
     protected TypeSystem typeSystem = Driver.super.getTypeSystem();
     protected ParameterConversion parameterConversion = DefaultParameterConversion.INSTANCE;
@@ -210,8 +207,9 @@ public abstract class AbstractConfigurableDriver implements Driver {
     private Function<String, String> loadCypherModifications() {
 
         Map<String, Object> configurationProperties = this.customPropertiesSupplier.get();
-        ServiceLoader<CypherModificationProvider> currentProviderLoader = this.cypherModificationProviderLoader.get();
-        currentProviderLoader.reload();
+        // The modifications are loaded only once per driver, so a fresh loader is cheaper than keeping one per thread
+        ServiceLoader<CypherModificationProvider> currentProviderLoader = ServiceLoader
+            .load(CypherModificationProvider.class);
 
         return StreamSupport.stream(currentProviderLoader.spliterator(), false)
             .sorted(Comparator.comparing(CypherModificationProvider::getOrder))
@@ -18,12 +18,15 @@
  */
 package org.neo4j.ogm.driver;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.config.ObjectMapperFactory;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -37,18 +40,69 @@ public interface ParameterConversion {
 
     /**
      * The "old" way of converting things. Based on Jackson's Object Mapper.
+     * <p>
+     * Maps, collections and object arrays are walked directly and rebuilt as {@link LinkedHashMap LinkedHashMaps} and
+     * {@link ArrayList ArrayLists}, exactly as the object mapper would do. Strings, booleans, longs and doubles are
+     * passed through, smaller integral numbers are widened to longs. Only the remaining values are converted by the
+     * object mapper one at a time, so that large parameters like the rows of a bulk save are not serialized into a
+     * token buffer and read back as a whole.
      */
     enum DefaultParameterConversion implements ParameterConversion {
 
         INSTANCE;
 
         private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
-        private static final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-        };
 
         @Override
         public Map<String, Object> convertParameters(final Map<String, Object> originalParameter) {
-            return OBJECT_MAPPER.convertValue(originalParameter, MAP_TYPE_REF);
+            Map<String, Object> convertedParameter = new HashMap<>(capacityFor(originalParameter.size()));
+            originalParameter.forEach((key, value) -> convertedParameter.put(key, convertValue(value)));
+            return convertedParameter;
+        }
+
+        private static Object convertValue(Object value) {
+
+            if (value == null || value instanceof String || value instanceof Long || value instanceof Boolean
+                || value instanceof Double) {
+                return value;
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            } else if (value instanceof Character) {
+                return value.toString();
+            } else if (value instanceof Map && hasOnlyStringKeys((Map<?, ?>) value)) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                Map<Object, Object> convertedMap = new LinkedHashMap<>(capacityFor(map.size()));
+                map.forEach((key, element) -> convertedMap.put(key, convertValue(element)));
+                return convertedMap;
+            } else if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                List<Object> convertedList = new ArrayList<>(collection.size());
+                for (Object element : collection) {
+                    convertedList.add(convertValue(element));
+                }
+                return convertedList;
+            } else if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                List<Object> convertedList = new ArrayList<>(array.length);
+                for (Object element : array) {
+                    convertedList.add(convertValue(element));
+                }
+                return convertedList;
+            }
+            return OBJECT_MAPPER.convertValue(value, Object.class);
+        }
+
+        private static boolean hasOnlyStringKeys(Map<?, ?> map) {
+            for (Object key : map.keySet()) {
+                if (!(key instanceof String)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int capacityFor(int size) {
+            return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
         }
     }
 
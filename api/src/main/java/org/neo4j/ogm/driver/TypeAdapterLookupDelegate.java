@@ -22,17 +22,26 @@ import static java.util.Collections.*;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * To be used by a driver to lookup type adapters, both native to mapped and mapped to native. This lookup wraps all
  * returned adapters to make resilient against null values.
+ * <p>
+ * The adapter resolved for a class, including the fact that there is none, is cached, so that every class is only
+ * matched once against the registered adapters and the same adapter instance is returned for it afterwards.
  *
  * @author Michael J. Simons
  */
 public final class TypeAdapterLookupDelegate {
+
+    private static final Function<Object, Object> NULL_SAFE_IDENTITY = Function.identity();
+
     private final Map<Class<?>, Function> registeredTypeAdapter;
 
+    private final Map<Class<?>, Function<Object, Object>> resolvedTypeAdapter = new ConcurrentHashMap<>();
+
     public TypeAdapterLookupDelegate(Map<Class<?>, Function> registeredTypeAdapter) {
 
         this.registeredTypeAdapter = unmodifiableMap(registeredTypeAdapter);
@@ -46,19 +55,26 @@ public final class TypeAdapterLookupDelegate {
      */
     public Function<Object, Object> getAdapterFor(Class<?> clazz) {
 
-        Function<Object, Object> adapter = findAdapterFor(clazz).orElseGet(Function::identity);
-        return object -> object == null ? null : adapter.apply(object);
+        return resolveAdapterFor(clazz);
     }
 
     public boolean hasAdapterFor(Class<?> clazz) {
-        return findAdapterFor(clazz).isPresent();
+        return resolveAdapterFor(clazz) != NULL_SAFE_IDENTITY;
     }
 
-    private Optional<Function<Object, Object>> findAdapterFor(Class<?> clazz) {
+    private Function<Object, Object> resolveAdapterFor(Class<?> clazz) {
 
         if (clazz == null) {
-            return Optional.empty();
-        } else if (this.registeredTypeAdapter.containsKey(clazz)) {
+            return NULL_SAFE_IDENTITY;
+        }
+        return resolvedTypeAdapter.computeIfAbsent(clazz, key -> findAdapterFor(key)
+            .<Function<Object, Object>>map(adapter -> object -> object == null ? null : adapter.apply(object))
+            .orElse(NULL_SAFE_IDENTITY));
+    }
+
+    private Optional<Function<Object, Object>> findAdapterFor(Class<?> clazz) {
+
+        if (this.registeredTypeAdapter.containsKey(clazz)) {
             return Optional.of(registeredTypeAdapter.get(clazz));
         } else {
             return registeredTypeAdapter.entrySet()
@@ -21,6 +21,11 @@ package org.neo4j.ogm.response;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.model.QueryStatistics;
 
@@ -46,6 +51,31 @@ public interface Response<T> extends AutoCloseable {
         return models;
     }
 
+    /**
+     * Turns the remaining items of this response into a sequential stream. The items are pulled one by one through
+     * {@link #next()} while the stream is consumed, so that the response is never materialized as a whole.
+     * Closing the stream calls {@link #close()}.
+     *
+     * @return A lazy stream of the remaining items
+     * @since 4.0
+     */
+    default Stream<T> toStream() {
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+            Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                T model = next();
+                if (model == null) {
+                    return false;
+                }
+                action.accept(model);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
     void close();
 
     String[] columns();
@@ -51,6 +51,11 @@ public abstract class AbstractTransaction implements Transaction {
      * a subsequent save request to operate correctly */
     private final List<Object> registeredNew = new ArrayList<>();
 
+    /**
+     * Actions to run once this transaction has been committed.
+     */
+    private final List<Runnable> afterCommitActions = new ArrayList<>();
+
     private Transaction.Status status = Transaction.Status.OPEN;
     protected Transaction.Type type = Type.READ_WRITE;
 
@@ -67,7 +72,11 @@ public abstract class AbstractTransaction implements Transaction {
         if (extensions == 0) {
             // transaction can always be rolled back
             if (transactionManager != null) {
-                transactionManager.rollback(this);
+                try {
+                    transactionManager.rollback(this);
+                } finally {
+                    afterCommitActions.clear();
+                }
                 status = Status.ROLLEDBACK;
                 logger.debug("Thread {}: Rolled back", Thread.currentThread().getId());
             }
@@ -88,6 +97,7 @@ public abstract class AbstractTransaction implements Transaction {
                     transactionManager.commit(this);
                     status = Status.COMMITTED;
                     logger.debug("Thread {}: Committed", Thread.currentThread().getId());
+                    runAfterCommitActions();
                 }
             } else {
                 throw new TransactionException("Transaction cannot commit");
@@ -166,4 +176,40 @@ public abstract class AbstractTransaction implements Transaction {
     public List<Object> registeredNew() {
         return registeredNew;
     }
+
+    /**
+     * Registers an action that is run once this transaction has been committed. The action is discarded when the
+     * transaction is rolled back. An exception thrown by the action is propagated to the caller of {@link #commit()}.
+     *
+     * @param action the action to run after commit
+     */
+    public void registerAfterCommit(Runnable action) {
+        afterCommitActions.add(action);
+    }
+
+    /**
+     * Runs all registered actions, even if some of them fail. The first exception is rethrown afterwards, with the
+     * exceptions of later actions added as suppressed exceptions.
+     */
+    private void runAfterCommitActions() {
+        RuntimeException failure = null;
+        try {
+            for (Runnable action : afterCommitActions) {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        } finally {
+            afterCommitActions.clear();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 }
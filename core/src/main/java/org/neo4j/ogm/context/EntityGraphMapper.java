@@ -20,8 +20,10 @@ package org.neo4j.ogm.context;
 
 import static org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements.*;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -106,14 +108,42 @@ public class EntityGraphMapper implements EntityMapper {
     @Override
     public CompileContext map(Object entity, int horizon) {
 
-        this.currentDepth.set(0);
-
         if (entity == null) {
             throw new NullPointerException("Cannot map null object");
         }
 
-        // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
+        registerKnownRelationships();
+        mapRoot(entity, horizon);
+        deleteObsoleteRelationships();
+
+        return compiler.context();
+    }
+
+    @Override
+    public CompileContext mapAll(Iterable<?> entities, int horizon) {
+
+        if (entities == null) {
+            throw new NullPointerException("Cannot map null objects");
+        }
+
+        registerKnownRelationships();
+        for (Object entity : entities) {
+            if (entity == null) {
+                throw new NullPointerException("Cannot map null object");
+            }
+            mapRoot(entity, horizon);
+        }
+        deleteObsoleteRelationships();
+
+        return compiler.context();
+    }
+
+    /**
+     * Adds all the relationships we know about to the compile context. This includes the relationships that
+     * won't be modified by the mapping request.
+     */
+    private void registerKnownRelationships() {
+
         for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
             LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
                 mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
@@ -121,6 +151,17 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         LOGGER.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
+    }
+
+    /**
+     * Maps a single root object of a mapping request, without touching the relationships that are already known.
+     *
+     * @param entity  The "root" object to persist
+     * @param horizon The depth to which related objects are mapped
+     */
+    private void mapRoot(Object entity, int horizon) {
+
+        this.currentDepth.set(0);
 
         // if the object is a RelationshipEntity, persist it by persisting both the start node and the end node
         // and then ensure the relationship between the two is created or updated as necessary
@@ -168,10 +209,6 @@ public class EntityGraphMapper implements EntityMapper {
         } else { // not an RE, simply map the entity
             mapEntity(entity, horizon);
         }
-
-        deleteObsoleteRelationships();
-
-        return compiler.context();
     }
 
     @Override
@@ -188,62 +225,62 @@ public class EntityGraphMapper implements EntityMapper {
 
         Map<Long, Object> snapshotOfKnownRelationshipEntities
             = mappingContext.getSnapshotOfRelationshipEntityRegister();
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
 
-            // if we cannot remove this relationship from the compile context, it
-            // means the user has deleted the relationship
+        // if we cannot remove a relationship from the compile context, it
+        // means the user has deleted the relationship
+        List<MappedRelationship> obsoleteRelationships = new ArrayList<>();
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
             if (!context.removeRegisteredRelationship(mappedRelationship)) {
+                obsoleteRelationships.add(mappedRelationship);
+            }
+        }
 
-                LOGGER.debug("context-del: {}", mappedRelationship);
-
-                // tell the compiler to prepare a statement that will delete the relationship from the graph
-                RelationshipBuilder builder = compiler.unrelate(
-                    mappedRelationship.getStartNodeId(),
-                    mappedRelationship.getRelationshipType(),
-                    mappedRelationship.getEndNodeId(),
-                    mappedRelationship.getRelationshipId());
-
-                Object entity = snapshotOfKnownRelationshipEntities.get(mappedRelationship.getRelationshipId());
-                if (entity != null) {
-                    ClassInfo classInfo = metaData.classInfo(entity);
-                    if (classInfo.hasVersionField()) {
-                        FieldInfo field = classInfo.getVersionField();
-                        builder.setVersionProperty(field.propertyName(), (Long) field.read(entity));
-                    }
-                }
+        for (MappedRelationship mappedRelationship : obsoleteRelationships) {
+
+            LOGGER.debug("context-del: {}", mappedRelationship);
 
-                // remove all nodes that are referenced by this relationship in the mapping context
-                // this will ensure that stale versions of these objects don't exist
-                clearRelatedObjects(mappedRelationship.getStartNodeId());
-                clearRelatedObjects(mappedRelationship.getEndNodeId());
+            // tell the compiler to prepare a statement that will delete the relationship from the graph
+            RelationshipBuilder builder = compiler.unrelate(
+                mappedRelationship.getStartNodeId(),
+                mappedRelationship.getRelationshipType(),
+                mappedRelationship.getEndNodeId(),
+                mappedRelationship.getRelationshipId());
 
-                // finally remove the relationship from the mapping context
-                //mappingContext.removeRelationship(mappedRelationship);
-                mappedRelationshipIterator.remove();
+            Object entity = snapshotOfKnownRelationshipEntities.get(mappedRelationship.getRelationshipId());
+            if (entity != null) {
+                ClassInfo classInfo = metaData.classInfo(entity);
+                if (classInfo.hasVersionField()) {
+                    FieldInfo field = classInfo.getVersionField();
+                    builder.setVersionProperty(field.propertyName(), (Long) field.read(entity));
+                }
             }
+
+            // remove all nodes that are referenced by this relationship in the mapping context
+            // this will ensure that stale versions of these objects don't exist
+            clearRelatedObjects(mappedRelationship.getStartNodeId());
+            clearRelatedObjects(mappedRelationship.getEndNodeId());
+
+            // finally remove the relationship from the mapping context
+            mappingContext.removeRelationship(mappedRelationship);
         }
     }
 
     private void clearRelatedObjects(Long node) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOf(node)) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
             }
         }
     }
@@ -277,6 +314,12 @@ public class EntityGraphMapper implements EntityMapper {
             }
         }
 
+        // with explicit change tracking, nothing reachable only through an unchanged entity needs to be saved
+        if (mappingContext.isKnownUnchanged(entity)) {
+            LOGGER.debug("not traversing unchanged entity: {}", entity);
+            return nodeBuilder;
+        }
+
         if (horizon != 0) {
             mapEntityReferences(entity, nodeBuilder, horizon - 1);
         } else {
@@ -300,11 +343,14 @@ public class EntityGraphMapper implements EntityMapper {
      */
     private void updateNode(Object entity, CompileContext context, NodeBuilder nodeBuilder) {
         // fire pre-save event here
-        if (mappingContext.isDirty(entity)) {
+        // the changes are determined once, they decide about the node being written and about the properties sent
+        BitSet changedProperties = mappingContext.getChangedProperties(entity);
+        if (changedProperties == null || !changedProperties.isEmpty()) {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
             ClassInfo classInfo = metaData.classInfo(entity);
-            updateFieldsOnBuilder(entity, nodeBuilder, classInfo);
+            // only the changed properties of a known node need to be sent, all others are already stored
+            updateFieldsOnBuilder(entity, nodeBuilder, classInfo, changedProperties);
         } else {
             context.deregister(nodeBuilder);
             LOGGER.debug("{}, has not changed", entity);
@@ -714,15 +760,29 @@ public class EntityGraphMapper implements EntityMapper {
     }
 
     private <T> void updateFieldsOnBuilder(Object entity, PropertyContainerBuilder<T> builder, ClassInfo classInfo) {
+        updateFieldsOnBuilder(entity, builder, classInfo, null);
+    }
+
+    /**
+     * Adds the properties of an entity to the builder. Composite properties and the version are always added, as
+     * the removal of composite properties and optimistic locking rely on them.
+     *
+     * @param changedProperties the positions of the fields to add besides composite and version fields, null to add
+     *                          all fields
+     */
+    private <T> void updateFieldsOnBuilder(Object entity, PropertyContainerBuilder<T> builder, ClassInfo classInfo,
+        BitSet changedProperties) {
+        int i = 0;
         for (FieldInfo fieldInfo : classInfo.propertyFields()) {
             if (fieldInfo.isComposite()) {
                 Map<String, ?> properties = fieldInfo.readComposite(entity);
                 builder.addCompositeProperties(properties);
             } else if (fieldInfo.isVersionField()) {
                 updateVersionField(entity, builder, fieldInfo);
-            } else {
+            } else if (changedProperties == null || changedProperties.get(i)) {
                 builder.addProperty(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
             }
+            ++i;
         }
     }
 
@@ -913,7 +973,7 @@ public class EntityGraphMapper implements EntityMapper {
             //If its a rel entity then we want to rebase the startClass to the @StartNode of the rel entity and the endClass to the rel entity
             if (metaData.isRelationshipEntity(tgtClass.getName())) {
                 srcClass = tgtClass;
-                String start = metaData.classInfo(tgtClass.getName()).getStartNodeReader().getTypeDescriptor();
+                String start = metaData.classInfo(tgtClass).getStartNodeReader().getTypeDescriptor();
                 tgtClass = DescriptorMappings.getType(start);
             }
             reallyCreateRelationship(context, tgt, relationshipBuilder, src, tgtClass, srcClass);
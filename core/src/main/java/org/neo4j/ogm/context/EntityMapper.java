@@ -54,6 +54,30 @@ public interface EntityMapper {
      */
     CompileContext map(Object entity, int depth);
 
+    /**
+     * Processes all of the given objects as "root" objects of a single mapping request to the specified depth and
+     * produces Cypher queries to persist their state in Neo4j. The outcome is the same as calling
+     * {@link #map(Object, int)} for each object, but the relationships already known are registered and checked for
+     * deletion only once for all objects and not once per object.
+     *
+     * @param entities The "root" nodes of the object graphs to persist
+     * @param depth    The number of objects away from each "root" to traverse when looking for objects to map
+     * @return A {@link CompileContext} object containing the statements required to persist the given objects to Neo4j,
+     * never <code>null</code>
+     * @throws NullPointerException if invoked with <code>null</code> or if any of the objects is <code>null</code>
+     */
+    default CompileContext mapAll(Iterable<?> entities, int depth) {
+
+        if (entities == null) {
+            throw new NullPointerException("Cannot map null objects");
+        }
+
+        for (Object entity : entities) {
+            map(entity, depth);
+        }
+        return compileContext();
+    }
+
     /**
      * Returns compile context after multiple {@link #map(Object)} operations were called
      *
@@ -25,6 +25,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.neo4j.ogm.annotation.EndNode;
@@ -141,6 +142,59 @@ public class GraphEntityMapper {
         return results;
     }
 
+    /**
+     * Creates a function that maps graph models one at a time, as they are pulled from a streamed response. Contrary
+     * to {@link #map(Class, List, BiFunction, Map)} the entities of a graph model are returned right after that model
+     * has been mapped. As a consequence, methods annotated with {@code @PostLoad} are executed once the first model
+     * containing an entity has been mapped and not after all models.
+     * <p>
+     * Each entity is returned at most once by the created function. Relationship entities are returned only if the
+     * requested type is a relationship entity, node entities otherwise.
+     *
+     * @param type                 the type of the entities to return
+     * @param additionalNodeFilter An optional filter to exclude entities based on some nodes from the result
+     * @param <T>                  The type of the class of the entities to return
+     * @return A stateful function returning the entities of each graph model passed to it
+     */
+    <T> Function<GraphModel, List<T>> incrementalMapper(Class<T> type,
+        BiFunction<GraphModel, Long, Boolean> additionalNodeFilter) {
+
+        ClassInfo classInfo = metadata.classInfo(type);
+        boolean relationshipEntities = classInfo != null && classInfo.isRelationshipEntity();
+
+        Set<Long> postLoadedNodeIds = new HashSet<>();
+        Set<Long> postLoadedRelationshipIds = new HashSet<>();
+        Set<Long> alreadyReturnedIds = new HashSet<>();
+
+        return graphModel -> {
+            Set<Long> mappedNodeIds = new LinkedHashSet<>();
+            Set<Long> returnedNodeIds = new LinkedHashSet<>();
+            Set<Long> mappedRelationshipIds = new LinkedHashSet<>();
+            Set<Long> returnedRelationshipIds = new LinkedHashSet<>();
+
+            mapContentOf(graphModel, additionalNodeFilter, returnedNodeIds, mappedRelationshipIds,
+                returnedRelationshipIds, mappedNodeIds);
+
+            mappedNodeIds.removeIf(id -> !postLoadedNodeIds.add(id));
+            mappedRelationshipIds.removeIf(id -> !postLoadedRelationshipIds.add(id));
+            executePostLoad(mappedNodeIds, mappedRelationshipIds);
+
+            List<T> results = new ArrayList<>();
+            for (Long id : relationshipEntities ? returnedRelationshipIds : returnedNodeIds) {
+                if (!alreadyReturnedIds.add(id)) {
+                    continue;
+                }
+                Object entity = relationshipEntities ?
+                    mappingContext.getRelationshipEntity(id) :
+                    mappingContext.getNodeEntity(id);
+                if (entity != null && type.isAssignableFrom(entity.getClass())) {
+                    results.add(type.cast(entity));
+                }
+            }
+            return results;
+        };
+    }
+
     private void mapContentOf(
         GraphModel graphModel,
         BiFunction<GraphModel, Long, Boolean> additionalNodeFilter,
@@ -408,9 +462,6 @@ public class GraphEntityMapper {
         // REs also have properties
         setProperties(edge.getPropertyList(), relationshipEntity);
 
-        // register it in the mapping context
-        mappingContext.addRelationshipEntity(relationshipEntity, edge.getId());
-
         // set the start and end entities
         ClassInfo relEntityInfo = metadata.classInfo(relationshipEntity);
 
@@ -430,6 +481,9 @@ public class GraphEntityMapper {
                 "Cannot find a writer for the EndNode of relational entity " + relEntityInfo.name());
         }
 
+        // register it in the mapping context, after start and end node are known
+        mappingContext.addRelationshipEntity(relationshipEntity, edge.getId());
+
         return relationshipEntity;
     }
 
@@ -649,7 +703,7 @@ public class GraphEntityMapper {
      */
     private boolean declaresRelationshipTo(Class to, Class by, String relationshipName, Direction relationshipDirection) {
         return EntityAccessManager
-            .getRelationalWriter(metadata.classInfo(by.getName()), relationshipName, relationshipDirection, to) != null;
+            .getRelationalWriter(metadata.classInfo(by), relationshipName, relationshipDirection, to) != null;
     }
 
     /**
@@ -22,6 +22,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.model.GraphModel;
@@ -44,19 +46,35 @@ public class GraphRowModelMapper implements ResponseMapper<GraphModel> {
         this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
     }
 
+    private static final BiFunction<GraphModel, Long, Boolean> IS_NOT_GENERATED_NODE = (graphModel, nativeId) -> {
+        Optional<Node> node = ((DefaultGraphModel) graphModel).findNode(nativeId);
+        if (!node.isPresent()) {
+            return true; // Native id describes a relationship
+        }
+        return node.map(n -> !((NodeModel) n).isGeneratedNode()).get();
+    };
+
     @Override
     public <T> Iterable<T> map(Class<T> type, Response<GraphModel> model) {
 
         List<GraphModel> listOfGraphModels = model.toList();
         model.close();
 
-        BiFunction<GraphModel, Long, Boolean> isNotGeneratedNode = (graphModel, nativeId) -> {
-            Optional<Node> node = ((DefaultGraphModel) graphModel).findNode(nativeId);
-            if (!node.isPresent()) {
-                return true; // Native id describes a relationship
-            }
-            return node.map(n -> !((NodeModel) n).isGeneratedNode()).get();
-        };
-        return delegate.map(type, listOfGraphModels, isNotGeneratedNode, Collections.emptyMap());
+        return delegate.map(type, listOfGraphModels, IS_NOT_GENERATED_NODE, Collections.emptyMap());
+    }
+
+    /**
+     * Maps the response lazily, one graph model at a time, while the returned stream is consumed.
+     *
+     * @param type     the type of the entities to return
+     * @param response The response to map, will be closed when the returned stream is closed
+     * @param <T>      The type of the class of the entities to return
+     * @return A lazy stream of the entities contained in the response
+     * @see GraphEntityMapper#incrementalMapper(Class, BiFunction)
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphModel> response) {
+
+        Function<GraphModel, List<T>> mapper = delegate.incrementalMapper(type, IS_NOT_GENERATED_NODE);
+        return response.toStream().flatMap(graphModel -> mapper.apply(graphModel).stream());
     }
 }
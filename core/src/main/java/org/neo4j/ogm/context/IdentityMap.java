@@ -18,11 +18,8 @@
  */
 package org.neo4j.ogm.context;
 
-import java.lang.reflect.Array;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -30,7 +27,8 @@ import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
 
 /**
- * Maintains entity footprints for dirty checking.
+ * Maintains entity footprints for dirty checking. The footprint of an entity is an array of 64-bit fingerprints, one
+ * per persistable property, so that changes can be traced to single properties.
  *
  * @author Vince Bickers
  * @author Mark Angrish
@@ -39,30 +37,30 @@ import org.neo4j.ogm.metadata.MetaData;
  */
 class IdentityMap {
 
-    // objects with no properties will always hash to this value.
+    // null values will always have this fingerprint.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHashes;
+    private final LongObjectMap<long[]> nodeFingerprints;
 
-    private final Map<Long, Long> relEntityHashes;
+    private final LongObjectMap<long[]> relEntityFingerprints;
 
-    private final Map<Long, EntitySnapshot> snapshotsOfNodeEntities;
+    private final LongObjectMap<EntitySnapshot> snapshotsOfNodeEntities;
 
-    private final Map<Long, EntitySnapshot> snapshotsOfRelationshipEntities;
+    private final LongObjectMap<EntitySnapshot> snapshotsOfRelationshipEntities;
 
     private final MetaData metaData;
 
     IdentityMap(MetaData metaData) {
-        this.nodeHashes = new HashMap<>();
-        this.relEntityHashes = new HashMap<>();
-        this.snapshotsOfNodeEntities = new HashMap<>();
-        this.snapshotsOfRelationshipEntities = new HashMap<>();
+        this.nodeFingerprints = new LongObjectMap<>();
+        this.relEntityFingerprints = new LongObjectMap<>();
+        this.snapshotsOfNodeEntities = new LongObjectMap<>();
+        this.snapshotsOfRelationshipEntities = new LongObjectMap<>();
         this.metaData = metaData;
     }
 
     /**
-     * constructs a 64-bit hash of this object's node properties
-     * and maps the object to that hash. The object must not be null
+     * constructs the fingerprints of this object's node properties
+     * and maps the object to them. The object must not be null
      *
      * @param object   the object whose persistable properties we want to hash
      * @param entityId the native id of the entity
@@ -70,10 +68,10 @@ class IdentityMap {
     void remember(Object object, Long entityId) {
         ClassInfo classInfo = metaData.classInfo(object);
         if (metaData.isRelationshipEntity(classInfo.name())) {
-            this.relEntityHashes.put(entityId, hash(object, classInfo));
+            this.relEntityFingerprints.put(entityId, fingerprint(object, classInfo));
             this.snapshotsOfRelationshipEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
         } else {
-            this.nodeHashes.put(entityId, hash(object, classInfo));
+            this.nodeFingerprints.put(entityId, fingerprint(object, classInfo));
             this.snapshotsOfNodeEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
         }
     }
@@ -81,8 +79,8 @@ class IdentityMap {
     /**
      * determines whether the specified has already
      * been memorised. The object must not be null. An object
-     * is regarded as memorised if its hash value in the memo hash
-     * is identical to a recalculation of its hash value.
+     * is regarded as memorised if the fingerprints of all its properties
+     * are identical to a recalculation of them.
      *
      * @param object   the object whose persistable properties we want to check
      * @param entityId the native id of the entity
@@ -96,17 +94,60 @@ class IdentityMap {
         }
 
         ClassInfo classInfo = metaData.classInfo(object);
-        boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
-        Map<Long, Long> hashes = isRelEntity ? relEntityHashes : nodeHashes;
+        long[] expected = fingerprintsOf(classInfo, entityId);
 
-        // ... or a little later when the hashes in question doesnt contain the entities id
-        if (!hashes.containsKey(entityId)) {
+        // ... or a little later when the fingerprints in question dont contain the entities id
+        if (expected == null) {
             return false;
         }
 
-        long actual = hash(object, classInfo);
-        long expected = hashes.get(entityId);
-        return actual == expected;
+        return matches(object, classInfo, expected);
+    }
+
+    /**
+     * Determines the properties of the given object that have changed since it was remembered. Each property is
+     * fingerprinted exactly once. The positions in the returned set are those of the fields in
+     * {@link ClassInfo#propertyFields()}, the label field, if any, is represented by the position following the last
+     * property field.
+     *
+     * @param object   the object whose persistable properties we want to check
+     * @param entityId the native id of the entity
+     * @return the positions of the changed properties, empty if nothing changed, or null if the object hasn't been
+     * remembered
+     */
+    BitSet changedProperties(Object object, Long entityId) {
+
+        if (entityId == null) {
+            return null;
+        }
+
+        ClassInfo classInfo = metaData.classInfo(object);
+        long[] expected = fingerprintsOf(classInfo, entityId);
+
+        Collection<FieldInfo> propertyFields = classInfo.propertyFields();
+        FieldInfo labelField = classInfo.labelFieldOrNull();
+
+        if (expected == null || expected.length != propertyFields.size() + (labelField == null ? 0 : 1)) {
+            return null;
+        }
+
+        BitSet changedProperties = new BitSet(expected.length);
+        int i = 0;
+        for (FieldInfo fieldInfo : propertyFields) {
+            if (expected[i] != fingerprint(fieldInfo.read(object))) {
+                changedProperties.set(i);
+            }
+            ++i;
+        }
+        if (labelField != null && expected[i] != fingerprint(labelField.read(object))) {
+            changedProperties.set(i);
+        }
+        return changedProperties;
+    }
+
+    private long[] fingerprintsOf(ClassInfo classInfo, Long entityId) {
+        boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
+        return (isRelEntity ? relEntityFingerprints : nodeFingerprints).get(entityId);
     }
 
     /**
@@ -133,32 +174,87 @@ class IdentityMap {
 
     void clear() {
 
-        this.nodeHashes.clear();
-        this.relEntityHashes.clear();
+        this.nodeFingerprints.clear();
+        this.relEntityFingerprints.clear();
         this.snapshotsOfNodeEntities.clear();
         this.snapshotsOfRelationshipEntities.clear();
     }
 
-    private static long hash(Object object, ClassInfo classInfo) {
+    /**
+     * Computes the fingerprints of all persistable properties of the given object, one per property field, followed
+     * by one for the label field, if any.
+     */
+    private static long[] fingerprint(Object object, ClassInfo classInfo) {
+
+        Collection<FieldInfo> propertyFields = classInfo.propertyFields();
+        FieldInfo labelField = classInfo.labelFieldOrNull();
 
-        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
-        if (classInfo.labelFieldOrNull() != null) {
-            hashFields.add(classInfo.labelFieldOrNull());
+        long[] fingerprints = new long[propertyFields.size() + (labelField == null ? 0 : 1)];
+        int i = 0;
+        for (FieldInfo fieldInfo : propertyFields) {
+            fingerprints[i++] = fingerprint(fieldInfo.read(object));
         }
+        if (labelField != null) {
+            fingerprints[i] = fingerprint(labelField.read(object));
+        }
+        return fingerprints;
+    }
 
-        long hash = SEED;
-        for (FieldInfo fieldInfo : hashFields) {
+    /**
+     * Compares the current state of the given object to the remembered fingerprints, stopping at the first change.
+     */
+    private static boolean matches(Object object, ClassInfo classInfo, long[] fingerprints) {
 
-            Object value = fieldInfo.read(object);
-            if (value != null) {
-                if (value.getClass().isArray()) {
-                    hash = hash * 31L + hashArray(value);
-                } else {
-                    hash = hash * 31L + value.hashCode();
-                }
+        Collection<FieldInfo> propertyFields = classInfo.propertyFields();
+        FieldInfo labelField = classInfo.labelFieldOrNull();
+
+        if (fingerprints.length != propertyFields.size() + (labelField == null ? 0 : 1)) {
+            return false;
+        }
+
+        int i = 0;
+        for (FieldInfo fieldInfo : propertyFields) {
+            if (fingerprints[i++] != fingerprint(fieldInfo.read(object))) {
+                return false;
             }
         }
-        return hash;
+        return labelField == null || fingerprints[i] == fingerprint(labelField.read(object));
+    }
+
+    /**
+     * Computes a 64-bit fingerprint of a single property value. Strings, numbers and arrays of primitives are hashed
+     * over their full content without boxing, all other values by their {@link Object#hashCode()}.
+     *
+     * @param value the value of a property, may be null
+     * @return the fingerprint of the value
+     */
+    static long fingerprint(Object value) {
+
+        if (value == null) {
+            return SEED;
+        }
+
+        long hash;
+        if (value instanceof String) {
+            hash = hash((String) value);
+        } else if (value instanceof Long) {
+            hash = (Long) value;
+        } else if (value instanceof Double) {
+            hash = Double.doubleToLongBits((Double) value);
+        } else if (value.getClass().isArray()) {
+            hash = hashArray(value);
+        } else {
+            hash = value.hashCode();
+        }
+        return mix(hash);
+    }
+
+    private static long hash(String value) {
+        long result = 1;
+        for (int i = 0; i < value.length(); i++) {
+            result = 31L * result + value.charAt(i);
+        }
+        return result;
     }
 
     /**
@@ -169,11 +265,52 @@ class IdentityMap {
      */
     private static long hashArray(Object array) {
         long result = 1;
-        int len = Array.getLength(array);
-        for (int i = 0; i < len; i++) {
-            Object element = Array.get(array, i);
-            result = 31L * result + (element == null ? 0 : element.hashCode());
+        if (array instanceof Object[]) {
+            for (Object element : (Object[]) array) {
+                result = 31L * result + (element == null ? 0 : fingerprint(element));
+            }
+        } else if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                result = 31L * result + element;
+            }
+        } else if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                result = 31L * result + element;
+            }
+        } else if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                result = 31L * result + Double.doubleToLongBits(element);
+            }
+        } else if (array instanceof float[]) {
+            for (float element : (float[]) array) {
+                result = 31L * result + Float.floatToIntBits(element);
+            }
+        } else if (array instanceof byte[]) {
+            for (byte element : (byte[]) array) {
+                result = 31L * result + element;
+            }
+        } else if (array instanceof char[]) {
+            for (char element : (char[]) array) {
+                result = 31L * result + element;
+            }
+        } else if (array instanceof short[]) {
+            for (short element : (short[]) array) {
+                result = 31L * result + element;
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean element : (boolean[]) array) {
+                result = 31L * result + (element ? 1231 : 1237);
+            }
         }
-        return result;
+        // Distinguish arrays of different component types with the same content
+        return result * 31L + array.getClass().getComponentType().hashCode();
+    }
+
+    /**
+     * Spreads the bits of a hash, so that values with a small hash don't collide with the fingerprint of null.
+     */
+    private static long mix(long hash) {
+        long h = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return (h ^ (h >>> 33)) + 1;
     }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * An insertion ordered map from primitive {@code long} keys to non-null object values. It is used for the registers
+ * of the {@link MappingContext} and the {@link IdentityMap}, which are keyed by native ids and can grow to millions of
+ * entries in long running sessions. Compared to a {@link java.util.LinkedHashMap} there is neither a boxed key nor an
+ * entry object per mapping.
+ * <p>
+ * Entries are stored densely in insertion order in two parallel arrays. An open addressing hash table with linear
+ * probing stores the positions of the entries. Removed entries leave a gap that is reclaimed when the entry arrays
+ * are compacted on the next resize.
+ * <p>
+ * This map is not thread safe and must not be modified while being iterated.
+ *
+ * @param <V> type of the values
+ */
+final class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Hash table of positions into {@link #keys} and {@link #values}, offset by one so that {@literal 0} marks a free
+     * slot.
+     */
+    private int[] table;
+
+    private long[] keys;
+
+    private Object[] values;
+
+    /**
+     * Number of positions used in the entry arrays, including gaps of removed entries.
+     */
+    private int used;
+
+    /**
+     * Number of live entries.
+     */
+    private int size;
+
+    LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongObjectMap(int expectedSize) {
+        allocate(Math.max(expectedSize, DEFAULT_CAPACITY));
+    }
+
+    private void allocate(int capacity) {
+        this.table = new int[tableSizeFor(capacity)];
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.used = 0;
+        this.size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(long key) {
+        return slotOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) values[table[slot] - 1];
+    }
+
+    /**
+     * @param key   the key
+     * @param value the value, must not be null
+     * @return the previous value or null if there was no mapping for the key
+     */
+    V put(long key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * @param key   the key
+     * @param value the value, must not be null
+     * @return the current value or null if there was no mapping for the key and the new value has been stored
+     */
+    V putIfAbsent(long key, V value) {
+        return put(key, value, true);
+    }
+
+    /**
+     * @param key             the key
+     * @param mappingFunction the function to compute a value if there is no mapping for the key, must not return null
+     * @return the current or computed value
+     */
+    V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value, false);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V put(long key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != 0) {
+            int position = table[slot] - 1;
+            if (keys[position] == key) {
+                V previous = (V) values[position];
+                if (!onlyIfAbsent) {
+                    values[position] = value;
+                }
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (used == keys.length) {
+            resize();
+            put(key, value, onlyIfAbsent);
+            return null;
+        }
+
+        keys[used] = key;
+        values[used] = value;
+        table[slot] = ++used;
+        ++size;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+
+        int position = table[slot] - 1;
+        V previous = (V) values[position];
+        values[position] = null;
+        --size;
+        deleteSlot(slot);
+        return previous;
+    }
+
+    void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(values, 0, used, null);
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each key and value in insertion order.
+     *
+     * @param action the action to be performed
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < used; ++i) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each value in insertion order.
+     *
+     * @param action the action to be performed
+     */
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> action) {
+        for (int i = 0; i < used; ++i) {
+            if (values[i] != null) {
+                action.accept((V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return A copy of all values in insertion order.
+     */
+    List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        forEachValue(result::add);
+        return result;
+    }
+
+    private int slotOf(long key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] != 0) {
+            if (keys[table[slot] - 1] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Frees the given slot and shifts back all following entries of the same probe sequence, so that no tombstones
+     * are required in the hash table.
+     */
+    private void deleteSlot(int slot) {
+        int mask = table.length - 1;
+        int free = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != 0) {
+            int home = hash(keys[table[current] - 1]) & mask;
+            // Move the entry if its home slot is not cyclically between the free slot and its current slot
+            if (((current - home) & mask) >= ((current - free) & mask)) {
+                table[free] = table[current];
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        table[free] = 0;
+    }
+
+    /**
+     * Compacts the entry arrays, dropping the gaps of removed entries, and grows them if necessary.
+     */
+    private void resize() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int oldUsed = this.used;
+
+        int capacity = size >= (oldUsed >> 1) + (oldUsed >> 2) ? oldKeys.length << 1 : oldKeys.length;
+        allocate(capacity);
+
+        int mask = table.length - 1;
+        for (int i = 0; i < oldUsed; ++i) {
+            if (oldValues[i] != null) {
+                keys[used] = oldKeys[i];
+                values[used] = oldValues[i];
+                int slot = hash(oldKeys[i]) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = ++used;
+            }
+        }
+        size = used;
+    }
+
+    /**
+     * @return A power of two that keeps the load factor of the hash table at or below 0.5 for the given capacity
+     */
+    private static int tableSizeFor(int capacity) {
+        return Integer.highestOneBit(capacity - 1) << 2;
+    }
+
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Consumer of a primitive key and its value.
+     *
+     * @param <V> type of the values
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+
+        void accept(long key, V value);
+    }
+}
@@ -43,7 +43,7 @@ import org.neo4j.ogm.utils.EntityUtils;
 public class MappingContext {
 
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final LongObjectMap<Object> nodeEntityRegister;
 
     // map primary index value -> entity
     private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
@@ -51,25 +51,53 @@ public class MappingContext {
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final LongObjectMap<Object> relationshipEntityRegister;
 
     private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
 
+    // start or end node entity (by identity) -> ids of the relationship entities attached to it
+    private final Map<Object, Set<Long>> relationshipEntityIdsByNode;
+
+    // relationship entity id -> start and end node entity at the time the relationship entity has been registered
+    private final LongObjectMap<Object[]> relationshipEntityEndpoints;
+
     private final Set<MappedRelationship> relationshipRegister;
 
+    // map Neo4j id -> all mapped relationships starting or ending at that node
+    private final LongObjectMap<Set<MappedRelationship>> relationshipsByNodeId;
+
     private final IdentityMap identityMap;
 
     private final MetaData metaData;
 
+    private final boolean explicitChangeTracking;
+
+    // entities (by identity) that have been marked as dirty when using explicit change tracking
+    private final Set<Object> markedAsDirty;
+
     public MappingContext(MetaData metaData) {
+        this(metaData, false);
+    }
+
+    /**
+     * @param metaData               The metadata of the domain
+     * @param explicitChangeTracking True if known node entities should only be regarded as changed when they have been
+     *                               marked via {@link #markDirty(Object)}
+     */
+    public MappingContext(MetaData metaData, boolean explicitChangeTracking) {
         this.metaData = metaData;
+        this.explicitChangeTracking = explicitChangeTracking;
+        this.markedAsDirty = Collections.newSetFromMap(new IdentityHashMap<>());
         this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new LinkedHashMap<>();
+        this.nodeEntityRegister = new LongObjectMap<>();
         this.primaryIndexNodeRegister = new LinkedHashMap<>();
         this.primaryIdToNativeId = new LinkedHashMap<>();
-        this.relationshipEntityRegister = new LinkedHashMap<>();
+        this.relationshipEntityRegister = new LongObjectMap<>();
         this.primaryIdToRelationship = new LinkedHashMap<>();
+        this.relationshipEntityIdsByNode = new IdentityHashMap<>();
+        this.relationshipEntityEndpoints = new LongObjectMap<>();
         this.relationshipRegister = new LinkedHashSet<>();
+        this.relationshipsByNodeId = new LongObjectMap<>();
     }
 
     /**
@@ -81,7 +109,7 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        return graphId == null ? null : nodeEntityRegister.get(graphId);
     }
 
     /**
@@ -198,7 +226,7 @@ public class MappingContext {
     }
 
     public void replaceRelationshipEntity(Object entity, Long id) {
-        relationshipEntityRegister.remove(id);
+        removeRelationshipEntity(id);
         ClassInfo classInfo = metaData.classInfo(entity);
         if (classInfo.hasPrimaryIndexField()) {
             final Object primaryIndexValue = classInfo.readPrimaryIndexValueOf(entity);
@@ -248,37 +276,145 @@ public class MappingContext {
      * @return true if the entity was changed, false otherwise.
      */
     public boolean isDirty(Object entity) {
+        if (isKnownUnchanged(entity)) {
+            return false;
+        }
         Long graphId = nativeId(entity);
         return !identityMap.remembered(entity, graphId);
     }
 
+    /**
+     * Determines the properties of an entity that have been changed since it was registered. Other than
+     * {@link #isDirty(Object)}, this inspects all properties, so that the result can be used to decide whether the entity
+     * needs to be written at all and which of its properties have to be written.
+     *
+     * @param entity The entity to check
+     * @return The positions of the changed fields in {@link org.neo4j.ogm.metadata.ClassInfo#propertyFields()}, followed
+     * by the position of the label field, or null if the state of the entity is unknown
+     */
+    BitSet getChangedProperties(Object entity) {
+        if (isKnownUnchanged(entity)) {
+            return new BitSet();
+        }
+        return identityMap.changedProperties(entity, nativeId(entity));
+    }
+
+    /**
+     * Checks whether an entity can be regarded as unchanged without inspecting its state. This is only the case with
+     * explicit change tracking, for node entities registered in this context that have not been marked as dirty.
+     *
+     * @param entity The entity to check
+     * @return true if the entity is known to be unchanged, false if it needs to be checked
+     */
+    public boolean isKnownUnchanged(Object entity) {
+        if (!explicitChangeTracking || markedAsDirty.contains(entity)) {
+            return false;
+        }
+        if (metaData.classInfo(entity) == null) {
+            return false;
+        }
+        Long id = nativeId(entity);
+        return id >= 0 && nodeEntityRegister.get(id) == entity;
+    }
+
+    /**
+     * Marks an entity as dirty, so that it is saved with the next save when using explicit change tracking. Does
+     * nothing otherwise.
+     *
+     * @param entity The changed entity
+     */
+    public void markDirty(Object entity) {
+        if (explicitChangeTracking) {
+            markedAsDirty.add(entity);
+        }
+    }
+
+    /**
+     * @return A copy of all entities that have been marked as dirty and are not yet saved
+     */
+    public List<Object> getMarkedAsDirty() {
+        return new ArrayList<>(markedAsDirty);
+    }
+
+    /**
+     * Removes the marks of the given entities after they have been saved.
+     *
+     * @param entities The saved entities
+     */
+    public void unmarkDirty(Collection<Object> entities) {
+        markedAsDirty.removeAll(entities);
+    }
+
     public boolean containsRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
 
+    /**
+     * @return A read-only view of all relationships known to this context. Use {@link #addRelationship(MappedRelationship)}
+     * and {@link #removeRelationship(MappedRelationship)} to modify the register.
+     */
     public Set<MappedRelationship> getRelationships() {
-        return relationshipRegister;
+        return Collections.unmodifiableSet(relationshipRegister);
+    }
+
+    /**
+     * Returns all relationships known to this context that either start or end at the node with the given id. The cost
+     * of this lookup is proportional to the degree of the node and not to the number of all known relationships.
+     *
+     * @param nodeId The native id of a node
+     * @return A read-only view of the incoming and outgoing relationships of that node, never null
+     */
+    public Set<MappedRelationship> getRelationshipsOf(Long nodeId) {
+        Set<MappedRelationship> relationships = relationshipsByNodeId.get(nodeId);
+        return relationships == null ? Collections.emptySet() : Collections.unmodifiableSet(relationships);
     }
 
     public void addRelationship(MappedRelationship relationship) {
-        relationshipRegister.add(relationship);
+        if (relationshipRegister.add(relationship)) {
+            relationshipsByNodeId.computeIfAbsent(relationship.getStartNodeId(), k -> new LinkedHashSet<>())
+                .add(relationship);
+            relationshipsByNodeId.computeIfAbsent(relationship.getEndNodeId(), k -> new LinkedHashSet<>())
+                .add(relationship);
+        }
+    }
+
+    public boolean removeRelationship(MappedRelationship relationship) {
+        if (!relationshipRegister.remove(relationship)) {
+            return false;
+        }
+        removeFromNodeIndex(relationship.getStartNodeId(), relationship);
+        removeFromNodeIndex(relationship.getEndNodeId(), relationship);
+        return true;
+    }
+
+    private void removeFromNodeIndex(Long nodeId, MappedRelationship relationship) {
+        Set<MappedRelationship> relationships = relationshipsByNodeId.get(nodeId);
+        if (relationships != null && relationships.remove(relationship) && relationships.isEmpty()) {
+            relationshipsByNodeId.remove(nodeId);
+        }
     }
 
     public void clear() {
         identityMap.clear();
+        markedAsDirty.clear();
         relationshipRegister.clear();
+        relationshipsByNodeId.clear();
         primaryIdToRelationship.clear();
+        relationshipEntityIdsByNode.clear();
+        relationshipEntityEndpoints.clear();
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
         relationshipEntityRegister.clear();
     }
 
     public Map<Long, Object> getSnapshotOfRelationshipEntityRegister() {
-        return new HashMap<>(this.relationshipEntityRegister);
+        Map<Long, Object> snapshot = new HashMap<>(relationshipEntityRegister.size() * 4 / 3 + 1);
+        relationshipEntityRegister.forEach(snapshot::put);
+        return snapshot;
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        return relationshipId == null ? null : relationshipEntityRegister.get(relationshipId);
     }
 
     /**
@@ -298,6 +434,7 @@ public class MappingContext {
         if (relationshipEntityRegister.putIfAbsent(id, relationshipEntity) == null) {
             relationshipEntity = relationshipEntityRegister.get(id);
             remember(relationshipEntity, id);
+            indexRelationshipEntity(relationshipEntity, id);
 
             ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             if (classInfo.hasPrimaryIndexField()) {
@@ -318,7 +455,7 @@ public class MappingContext {
      */
     public void removeType(Class<?> type) {
 
-        ClassInfo classInfo = metaData.classInfo(type.getName());
+        ClassInfo classInfo = metaData.classInfo(type);
 
         if (classInfo.isInterface()) {
             List<ClassInfo> implementingClasses = metaData.getImplementingClassInfos(classInfo.name());
@@ -400,21 +537,17 @@ public class MappingContext {
         Class<?> type = entity.getClass();
         if (!metaData.isRelationshipEntity(type.getName())) {
             if (getNodeEntity(id) != null) {
-                // todo: this will be very slow for many objects
-                // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                for (MappedRelationship mappedRelationship : relationshipRegister) {
-                    if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                        Object affectedObject = mappedRelationship.getEndNodeId() == id ?
-                            getNodeEntity(mappedRelationship.getStartNodeId()) :
-                            getNodeEntity(mappedRelationship.getEndNodeId());
-                        if (affectedObject != null) {
-                            neighbours.add(affectedObject);
-                        }
+                for (MappedRelationship mappedRelationship : getRelationshipsOf(id)) {
+                    Object affectedObject = mappedRelationship.getEndNodeId() == id ?
+                        getNodeEntity(mappedRelationship.getStartNodeId()) :
+                        getNodeEntity(mappedRelationship.getEndNodeId());
+                    if (affectedObject != null) {
+                        neighbours.add(affectedObject);
                     }
                 }
             }
         } else if (relationshipEntityRegister.containsKey(id)) {
-            ClassInfo classInfo = metaData.classInfo(type.getName());
+            ClassInfo classInfo = metaData.classInfo(type);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             FieldInfo endNodeReader = classInfo.getEndNodeReader();
             neighbours.add(startNodeReader.read(entity));
@@ -425,27 +558,68 @@ public class MappingContext {
     }
 
     /**
-     * Deregister a relationship entity if it has either start or end node equal to the supplied startOrEndEntity
+     * Deregister a relationship entity if it has either start or end node equal to the supplied startOrEndEntity.
+     * Only the relationship entities indexed for the given entity are inspected, so the cost is proportional to
+     * the number of relationship entities attached to it. Start and end node are the ones the relationship entity had
+     * when it has been registered, which are the ones it is attached to in the graph, even if its fields have been
+     * reassigned since.
      *
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
-            Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
-            final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
-            FieldInfo startNodeReader = classInfo.getStartNodeReader();
-            FieldInfo endNodeReader = classInfo.getEndNodeReader();
-            if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
-                .read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
-            }
+        Set<Long> relationshipEntityIds = relationshipEntityIdsByNode.get(startOrEndEntity);
+        if (relationshipEntityIds == null) {
+            return;
+        }
+
+        for (Long relationshipEntityId : new ArrayList<>(relationshipEntityIds)) {
+            removeRelationshipEntity(relationshipEntityId);
+        }
+    }
+
+    /**
+     * Removes the relationship entity with the given id from the register and from the start / end node index.
+     *
+     * @param id the id of the relationship entity
+     * @return the removed relationship entity or null if there was no relationship entity with that id
+     */
+    private Object removeRelationshipEntity(Long id) {
+        Object relationshipEntity = relationshipEntityRegister.remove(id);
+        Object[] endpoints = relationshipEntityEndpoints.remove(id);
+        if (endpoints != null) {
+            unindexRelationshipEntity(endpoints[0], id);
+            unindexRelationshipEntity(endpoints[1], id);
+        }
+        return relationshipEntity;
+    }
+
+    private void indexRelationshipEntity(Object relationshipEntity, Long id) {
+        final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+        Object startNode = classInfo.getStartNodeReader().read(relationshipEntity);
+        Object endNode = classInfo.getEndNodeReader().read(relationshipEntity);
+        relationshipEntityEndpoints.put(id, new Object[] { startNode, endNode });
+        if (startNode != null) {
+            relationshipEntityIdsByNode.computeIfAbsent(startNode, k -> new HashSet<>()).add(id);
+        }
+        if (endNode != null) {
+            relationshipEntityIdsByNode.computeIfAbsent(endNode, k -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void unindexRelationshipEntity(Object startOrEndEntity, Long id) {
+        if (startOrEndEntity == null) {
+            return;
+        }
+        Set<Long> relationshipEntityIds = relationshipEntityIdsByNode.get(startOrEndEntity);
+        if (relationshipEntityIds != null && relationshipEntityIds.remove(id) && relationshipEntityIds.isEmpty()) {
+            relationshipEntityIdsByNode.remove(startOrEndEntity);
         }
     }
 
     private void purge(Object entity, Class type) {
 
+        markedAsDirty.remove(entity);
+
         Long id = nativeId(entity);
         if (id < 0) {
             return;
@@ -462,7 +636,7 @@ public class MappingContext {
                 removeAllInAndOutcomingRelationshipsOf(id);
             }
         } else if (relationshipEntityRegister.containsKey(id)) {
-            relationshipEntityRegister.remove(id);
+            removeRelationshipEntity(id);
             final ClassInfo classInfo = metaData.classInfo(entity);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             Object startNode = startNodeReader.read(entity);
@@ -475,23 +649,24 @@ public class MappingContext {
 
     private void removeAllInAndOutcomingRelationshipsOf(Long id) {
 
+        Set<MappedRelationship> relationshipsOfNode = relationshipsByNodeId.get(id);
+        if (relationshipsOfNode == null) {
+            return;
+        }
+
         Set<Object> relEntitiesToPurge = new HashSet<>();
-        Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-            if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                // first purge any RE mappings (if its a RE)
-                if (mappedRelationship.getRelationshipId() != null) {
-                    Object relEntity = relationshipEntityRegister
-                        .get(mappedRelationship.getRelationshipId());
-                    if (relEntity != null) {
-                        relEntitiesToPurge.add(relEntity);
-                    }
+        for (MappedRelationship mappedRelationship : new ArrayList<>(relationshipsOfNode)) {
+
+            // first purge any RE mappings (if its a RE)
+            if (mappedRelationship.getRelationshipId() != null) {
+                Object relEntity = relationshipEntityRegister
+                    .get(mappedRelationship.getRelationshipId());
+                if (relEntity != null) {
+                    relEntitiesToPurge.add(relEntity);
                 }
-                // finally remove the mapped relationship
-                mappedRelationshipIterator.remove();
             }
+            // finally remove the mapped relationship
+            removeRelationship(mappedRelationship);
         }
 
         // Purge the relationship entities.
@@ -111,7 +111,7 @@ public class SingleUseEntityMapper {
     }
 
     private ClassInfo resolveClassInfoFor(Class<?> type) {
-        ClassInfo classInfo = this.metadata.classInfo(type.getName());
+        ClassInfo classInfo = this.metadata.classInfo(type);
         if (classInfo != null) {
             return classInfo;
         }
@@ -141,6 +141,17 @@ public interface Compiler {
      */
     List<Statement> getAllStatements();
 
+    /**
+     * Retrieves a plan of the statements that have been built up through this {@link Compiler}. The plan builds every
+     * kind of statement only once, so that it can be inspected before execution without compiling the statements twice.
+     * Every call returns a new plan, reflecting the builders and settings of the compiler at that time.
+     *
+     * @return A plan of the statements to be executed, never <code>null</code>
+     */
+    default StatementPlan plan() {
+        return new StatementPlan(this);
+    }
+
     /**
      * Returns this compiler's context
      *
@@ -161,4 +172,15 @@ public interface Compiler {
      * @param statementFactory The {@link StatementFactory}
      */
     void useStatementFactory(StatementFactory statementFactory);
+
+    /**
+     * Limits the number of rows a single {@link Statement} produced by this {@link Compiler} deals with. Larger
+     * groups of nodes or relationships are split over several statements.
+     * <p>
+     * Compilers that don't support batching ignore the limit, which is the default.
+     *
+     * @param batchSize The maximum number of rows per statement, {@literal 0} for no limit
+     */
+    default void useBatchSize(int batchSize) {
+    }
 }
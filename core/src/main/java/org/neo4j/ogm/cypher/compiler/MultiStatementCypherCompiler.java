@@ -20,12 +20,17 @@ package org.neo4j.ogm.cypher.compiler;
 
 import static java.util.stream.Collectors.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -56,17 +61,25 @@ public class MultiStatementCypherCompiler implements Compiler {
 
     private final CompileContext context;
     private final List<NodeBuilder> newNodeBuilders;
-    private final List<RelationshipBuilder> newRelationshipBuilders;
+    private final Set<RelationshipBuilder> newRelationshipBuilders;
+    // new relationship builders are indexed for unmapping only once they are related, as their ends aren't known before
+    private final List<RelationshipBuilder> unindexedRelationshipBuilders;
+    private final Map<Long, Deque<RelationshipBuilder>> newRelationshipBuildersByReference;
+    private final Map<RelationshipKey, Deque<RelationshipBuilder>> newRelationshipBuildersByKey;
     private final List<NodeBuilder> existingNodeBuilders;
     private final List<RelationshipBuilder> existingRelationshipBuilders;
     private final List<RelationshipBuilder> deletedRelationshipBuilders;
     private final List<RelationshipBuilder> deletedRelationshipEntityBuilders;
     private StatementFactory statementFactory;
+    private int batchSize;
 
     public MultiStatementCypherCompiler(Function<Object, Long> nativeIdProvider) {
         this.context = new CypherContext(this, nativeIdProvider);
         this.newNodeBuilders = new ArrayList<>();
-        this.newRelationshipBuilders = new ArrayList<>();
+        this.newRelationshipBuilders = new LinkedHashSet<>();
+        this.unindexedRelationshipBuilders = new ArrayList<>();
+        this.newRelationshipBuildersByReference = new HashMap<>();
+        this.newRelationshipBuildersByKey = new HashMap<>();
         this.existingNodeBuilders = new ArrayList<>();
         this.existingRelationshipBuilders = new ArrayList<>();
         this.deletedRelationshipBuilders = new ArrayList<>();
@@ -84,6 +97,7 @@ public class MultiStatementCypherCompiler implements Compiler {
     public RelationshipBuilder newRelationship(String type, boolean bidirectional) {
         RelationshipBuilder relationshipBuilder = new DefaultRelationshipBuilder(type, bidirectional);
         newRelationshipBuilders.add(relationshipBuilder);
+        unindexedRelationshipBuilders.add(relationshipBuilder);
         return relationshipBuilder;
     }
 
@@ -130,8 +144,10 @@ public class MultiStatementCypherCompiler implements Compiler {
         Map<String, Set<Node>> newNodesByLabels = groupNodesByLabel(newNodeBuilders);
         List<Statement> statements = new ArrayList<>(newNodesByLabels.size());
         for (Set<Node> nodeModels : newNodesByLabels.values()) {
-            NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(nodeModels, statementFactory);
-            statements.add(newNodeBuilder.build());
+            for (Set<Node> batch : batched(nodeModels)) {
+                NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(batch, statementFactory);
+                statements.add(newNodeBuilder.build());
+            }
         }
 
         return statements;
@@ -165,9 +181,11 @@ public class MultiStatementCypherCompiler implements Compiler {
         for (Map<String, Set<Edge>> edgesByProperties : relsByTypeAndProps.values()) {
             //For each set of unique property keys
             for (Set<Edge> edges : edgesByProperties.values()) {
-                NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges,
-                    statementFactory);
-                statements.add(newRelationshipBuilder.build());
+                for (Set<Edge> batch : batched(edges)) {
+                    NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(batch,
+                        statementFactory);
+                    statements.add(newRelationshipBuilder.build());
+                }
             }
         }
 
@@ -181,9 +199,11 @@ public class MultiStatementCypherCompiler implements Compiler {
 
         List<Statement> statements = new ArrayList<>(existingNodesByLabels.size());
         for (Set<Node> nodeModels : existingNodesByLabels.values()) {
-            ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(nodeModels,
-                statementFactory);
-            statements.add(existingNodeBuilder.build());
+            for (Set<Node> batch : batched(nodeModels)) {
+                ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(batch,
+                    statementFactory);
+                statements.add(existingNodeBuilder.build());
+            }
         }
 
         return statements;
@@ -198,9 +218,11 @@ public class MultiStatementCypherCompiler implements Compiler {
             for (RelationshipBuilder relBuilder : existingRelationshipBuilders) {
                 relationships.add(relBuilder.edge());
             }
-            ExistingRelationshipStatementBuilder existingRelationshipBuilder = new ExistingRelationshipStatementBuilder(
-                relationships, statementFactory);
-            statements.add(existingRelationshipBuilder.build());
+            for (Set<Edge> batch : batched(relationships)) {
+                ExistingRelationshipStatementBuilder existingRelationshipBuilder = new ExistingRelationshipStatementBuilder(
+                    batch, statementFactory);
+                statements.add(existingRelationshipBuilder.build());
+            }
         }
         return statements;
     }
@@ -213,9 +235,11 @@ public class MultiStatementCypherCompiler implements Compiler {
         List<Statement> statements = new ArrayList<>();
 
         for (Set<Edge> edges : deletedRelsByType.values()) {
-            DeletedRelationshipStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipStatementBuilder(
-                edges, statementFactory);
-            statements.add(deletedRelationshipBuilder.build());
+            for (Set<Edge> batch : batched(edges)) {
+                DeletedRelationshipStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipStatementBuilder(
+                    batch, statementFactory);
+                statements.add(deletedRelationshipBuilder.build());
+            }
         }
         return statements;
     }
@@ -229,9 +253,11 @@ public class MultiStatementCypherCompiler implements Compiler {
         List<Statement> statements = new ArrayList<>();
 
         for (Set<Edge> edges : deletedRelsByType.values()) {
-            DeletedRelationshipEntityStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipEntityStatementBuilder(
-                edges, statementFactory);
-            statements.add(deletedRelationshipBuilder.build());
+            for (Set<Edge> batch : batched(edges)) {
+                DeletedRelationshipEntityStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipEntityStatementBuilder(
+                    batch, statementFactory);
+                statements.add(deletedRelationshipBuilder.build());
+            }
         }
         return statements;
     }
@@ -272,28 +298,91 @@ public class MultiStatementCypherCompiler implements Compiler {
         this.statementFactory = newStatementFactory;
     }
 
+    @Override
+    public void useBatchSize(int newBatchSize) {
+        this.batchSize = newBatchSize;
+    }
+
+    /**
+     * Splits the rows of a single statement into batches of at most {@link #batchSize} rows, keeping their order.
+     */
+    private <T> List<Set<T>> batched(Set<T> rows) {
+        if (batchSize <= 0 || rows.size() <= batchSize) {
+            return Collections.singletonList(rows);
+        }
+
+        List<Set<T>> batches = new ArrayList<>(rows.size() / batchSize + 1);
+        Set<T> batch = null;
+        for (T row : rows) {
+            if (batch == null || batch.size() == batchSize) {
+                batch = new LinkedHashSet<>();
+                batches.add(batch);
+            }
+            batch.add(row);
+        }
+        return batches;
+    }
+
+    /**
+     * Removes the first new relationship matching the given one, either by reference for relationship entities
+     * or by type and ends for all others.
+     *
+     * @param relationshipBuilder the relationship to unmap
+     * @return true if a new relationship has been removed
+     */
     private boolean unmap(RelationshipBuilder relationshipBuilder) {
-        boolean unmapped = false;
-        Iterator<RelationshipBuilder> relIterator = newRelationshipBuilders.iterator();
-        while (relIterator.hasNext()) {
-            RelationshipBuilder newRelBuilder = relIterator.next();
-            if (relationshipBuilder.reference() >= 0) {
-                if (relationshipBuilder.reference().equals(newRelBuilder.reference())) {
-                    relIterator.remove();
-                    unmapped = true;
-                    break;
-                }
-            } else {
-                if (relationshipBuilder.type().equals(newRelBuilder.type())
-                    && relationshipBuilder.edge().getStartNode().equals(newRelBuilder.edge().getStartNode())
-                    && relationshipBuilder.edge().getEndNode().equals(newRelBuilder.edge().getEndNode())) {
-                    relIterator.remove();
-                    unmapped = true;
-                    break;
-                }
+        indexNewRelationshipBuilders();
+
+        RelationshipBuilder newRelBuilder;
+        if (relationshipBuilder.reference() >= 0) {
+            newRelBuilder = pollFirst(newRelationshipBuildersByReference, relationshipBuilder.reference());
+            if (newRelBuilder == null) {
+                // builders that haven't been related yet can still be matched by reference
+                newRelBuilder = unindexedRelationshipBuilders.stream()
+                    .filter(candidate -> relationshipBuilder.reference().equals(candidate.reference()))
+                    .findFirst().orElse(null);
+                unindexedRelationshipBuilders.remove(newRelBuilder);
+            }
+        } else {
+            newRelBuilder = pollFirst(newRelationshipBuildersByKey, new RelationshipKey(relationshipBuilder));
+        }
+
+        return newRelBuilder != null && newRelationshipBuilders.remove(newRelBuilder);
+    }
+
+    private void indexNewRelationshipBuilders() {
+        Iterator<RelationshipBuilder> unindexed = unindexedRelationshipBuilders.iterator();
+        while (unindexed.hasNext()) {
+            RelationshipBuilder newRelBuilder = unindexed.next();
+            if (newRelBuilder.edge().getStartNode() == null || newRelBuilder.edge().getEndNode() == null) {
+                continue;
             }
+            newRelationshipBuildersByReference
+                .computeIfAbsent(newRelBuilder.reference(), key -> new ArrayDeque<>()).add(newRelBuilder);
+            newRelationshipBuildersByKey
+                .computeIfAbsent(new RelationshipKey(newRelBuilder), key -> new ArrayDeque<>()).add(newRelBuilder);
+            unindexed.remove();
         }
-        return unmapped;
+    }
+
+    /**
+     * Takes the first builder for the given key out of the index, skipping the ones that have already been unmapped
+     * through the other index.
+     */
+    private <K> RelationshipBuilder pollFirst(Map<K, Deque<RelationshipBuilder>> index, K key) {
+        Deque<RelationshipBuilder> candidates = index.get(key);
+        if (candidates == null) {
+            return null;
+        }
+
+        RelationshipBuilder candidate = candidates.poll();
+        while (candidate != null && !newRelationshipBuilders.contains(candidate)) {
+            candidate = candidates.poll();
+        }
+        if (candidates.isEmpty()) {
+            index.remove(key);
+        }
+        return candidate;
     }
 
     private void assertStatementFactoryExists() {
@@ -311,17 +400,46 @@ public class MultiStatementCypherCompiler implements Compiler {
     private Map<String, Set<Edge>> groupRelationshipsByType(List<RelationshipBuilder> relationshipBuilders) {
         Map<String, Set<Edge>> relsByType = new HashMap<>();
         for (RelationshipBuilder relationshipBuilder : relationshipBuilders) {
-            if (!relsByType.containsKey(relationshipBuilder.type())) {
-                relsByType.put(relationshipBuilder.type(), new HashSet<>());
-            }
             //Replace the node ids
             RelationshipModel edge = (RelationshipModel) relationshipBuilder.edge();
             edge.setStartNode(context.getId(edge.getStartNode()));
             edge.setEndNode(context.getId(edge.getEndNode()));
-            relsByType.get(relationshipBuilder.type()).add(edge);
-            relsByType.get(relationshipBuilder.type()).add(edge);
+            relsByType.computeIfAbsent(relationshipBuilder.type(), type -> new HashSet<>()).add(edge);
         }
         return relsByType;
     }
 
+    /**
+     * Identifies a relationship that is not backed by a relationship entity by its type and ends.
+     */
+    private static final class RelationshipKey {
+
+        private final String type;
+        private final Long startNode;
+        private final Long endNode;
+
+        RelationshipKey(RelationshipBuilder relationshipBuilder) {
+            this.type = relationshipBuilder.type();
+            this.startNode = relationshipBuilder.edge().getStartNode();
+            this.endNode = relationshipBuilder.edge().getEndNode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RelationshipKey)) {
+                return false;
+            }
+            RelationshipKey that = (RelationshipKey) o;
+            return Objects.equals(type, that.type) && startNode.equals(that.startNode) && endNode.equals(that.endNode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, startNode, endNode);
+        }
+    }
+
 }
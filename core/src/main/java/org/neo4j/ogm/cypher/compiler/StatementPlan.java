@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.request.Statement;
+
+/**
+ * The statements of a {@link Compiler} for one save. Every kind of statement is built by the compiler at most once,
+ * when it is first asked for, and then kept together with the facts needed to plan the execution.
+ * <p>
+ * Statements creating relationships are built lazily on purpose: They may only be built after the ids of the new nodes
+ * they depend on have been registered in the {@link CompileContext}.
+ */
+public final class StatementPlan {
+
+    private final Memoized createNodesStatements;
+    private final Memoized createRelationshipsStatements;
+    private final Memoized updateNodesStatements;
+    private final Memoized updateRelationshipStatements;
+    private final Memoized deleteRelationshipStatements;
+    private final Memoized deleteRelationshipEntityStatements;
+    private final boolean dependentOnNewNodes;
+
+    StatementPlan(Compiler compiler) {
+        this.createNodesStatements = new Memoized(compiler::createNodesStatements);
+        this.createRelationshipsStatements = new Memoized(compiler::createRelationshipsStatements);
+        this.updateNodesStatements = new Memoized(compiler::updateNodesStatements);
+        this.updateRelationshipStatements = new Memoized(compiler::updateRelationshipStatements);
+        this.deleteRelationshipStatements = new Memoized(compiler::deleteRelationshipStatements);
+        this.deleteRelationshipEntityStatements = new Memoized(compiler::deleteRelationshipEntityStatements);
+        this.dependentOnNewNodes = compiler.hasStatementsDependentOnNewNodes();
+    }
+
+    /**
+     * @return true if there are any statements that depend on new nodes being created first
+     * @see Compiler#hasStatementsDependentOnNewNodes()
+     */
+    public boolean hasStatementsDependentOnNewNodes() {
+        return dependentOnNewNodes;
+    }
+
+    /**
+     * @return true if any update statement must be checked with optimistic locking and thus requires a transaction
+     */
+    public boolean requiresTransaction() {
+        return updateNodesStatements.get().stream().anyMatch(st -> st.optimisticLockingConfig().isPresent())
+            || updateRelationshipStatements.get().stream().anyMatch(st -> st.optimisticLockingConfig().isPresent());
+    }
+
+    public List<Statement> createNodesStatements() {
+        return createNodesStatements.get();
+    }
+
+    /**
+     * @return All statements except the ones creating nodes, in the order they have to be executed
+     */
+    public List<Statement> statementsAfterCreateNodes() {
+
+        List<Statement> statements = new ArrayList<>();
+        statements.addAll(createRelationshipsStatements.get());
+        statements.addAll(updateNodesStatements.get());
+        statements.addAll(updateRelationshipStatements.get());
+        statements.addAll(deleteRelationshipStatements.get());
+        statements.addAll(deleteRelationshipEntityStatements.get());
+        return statements;
+    }
+
+    /**
+     * @return All statements in the order they have to be executed
+     * @see Compiler#getAllStatements()
+     */
+    public List<Statement> allStatements() {
+
+        List<Statement> statements = new ArrayList<>(createNodesStatements.get());
+        statements.addAll(statementsAfterCreateNodes());
+        return statements;
+    }
+
+    private static final class Memoized {
+
+        private final Supplier<List<Statement>> supplier;
+        private List<Statement> statements;
+
+        Memoized(Supplier<List<Statement>> supplier) {
+            this.supplier = supplier;
+        }
+
+        List<Statement> get() {
+            if (statements == null) {
+                statements = supplier.get();
+            }
+            return statements;
+        }
+    }
+}
@@ -20,6 +20,10 @@ package org.neo4j.ogm.metadata;
 
 import static java.util.stream.Collectors.*;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.security.AccessController;
@@ -93,6 +97,8 @@ public class ClassInfo {
     private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
     private volatile Set<FieldInfo> fieldInfos;
     private volatile Map<String, FieldInfo> propertyFields;
+    private volatile Map<String, FieldInfo> propertyFieldsByName;
+    private volatile RelationshipFieldPlan relationshipFieldPlan;
     private volatile Map<String, FieldInfo> indexFields;
     private volatile Collection<FieldInfo> requiredFields;
     private volatile Collection<CompositeIndex> compositeIndexes;
@@ -104,6 +110,7 @@ public class ClassInfo {
     private volatile boolean isPostLoadMethodMapped = false;
     private volatile MethodInfo postLoadMethod;
     private volatile Collection<String> staticLabels;
+    private volatile MethodHandle defaultConstructor;
     private boolean primaryIndexFieldChecked = false;
     private final Class<?> cls;
     private Class<? extends IdStrategy> idStrategyClass;
@@ -448,6 +455,7 @@ public class ClassInfo {
         FieldInfo optionalIdentityField = identityFieldOrNull();
         Set<FieldInfo> fieldInfos = new HashSet<>(fields.size());
         Map<String, FieldInfo> propertyFields = new HashMap<>(fields.size());
+        Map<String, FieldInfo> propertyFieldsByName = new HashMap<>(fields.size());
 
         for (FieldInfo fieldInfo : fields) {
             if (fieldInfo != optionalIdentityField && !fieldInfo.isLabelField()
@@ -460,12 +468,14 @@ public class ClassInfo {
                     if (fieldInfo.persistableAsProperty()) {
                         fieldInfos.add(fieldInfo);
                         propertyFields.put(fieldInfo.property(), fieldInfo);
+                        propertyFieldsByName.putIfAbsent(foldCase(fieldInfo.getName()), fieldInfo);
                     }
                 } else if (fieldInfo.persistableAsProperty()) {
 
                     // If it is marked as a property, than it should be persistable as such
                     fieldInfos.add(fieldInfo);
                     propertyFields.put(fieldInfo.property(), fieldInfo);
+                    propertyFieldsByName.putIfAbsent(foldCase(fieldInfo.getName()), fieldInfo);
                 } else {
 
                     // Otherwise throw a fitting exception
@@ -474,8 +484,10 @@ public class ClassInfo {
             }
         }
 
-        this.fieldInfos = fieldInfos;
         this.propertyFields = propertyFields;
+        this.propertyFieldsByName = propertyFieldsByName;
+        // Written last, as it is the field checked by the unsynchronized accessors
+        this.fieldInfos = fieldInfos;
     }
 
     /**
@@ -485,36 +497,26 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required property field, or null if it doesn't exist.
      */
     public FieldInfo propertyFieldByName(String propertyName) {
-        for (FieldInfo fieldInfo : propertyFields()) {
-            if (fieldInfo.getName().equalsIgnoreCase(propertyName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        propertyFields();
+        return propertyName == null ? null : propertyFieldsByName.get(foldCase(propertyName));
     }
 
     /**
      * A relationship field is any field annotated with @Relationship, or any field that cannot be mapped to a
      * node property. The identity field is not a relationship field.
      *
-     * @return A Collection of FieldInfo objects describing the classInfo's relationship fields
+     * @return An unmodifiable Collection of FieldInfo objects describing the classInfo's relationship fields
      */
     public Collection<FieldInfo> relationshipFields() {
+        return relationshipFieldPlan().fields;
+    }
 
-        FieldInfo optionalIdentityField = identityFieldOrNull();
-        Set<FieldInfo> relationshipFields = new HashSet<>();
-        for (FieldInfo fieldInfo : fieldsInfo().fields()) {
-            if (fieldInfo != optionalIdentityField) {
-                if (!fieldInfo.getAnnotations().has(Relationship.class)) {
-                    if (!fieldInfo.persistableAsProperty()) {
-                        relationshipFields.add(fieldInfo);
-                    }
-                } else {
-                    relationshipFields.add(fieldInfo);
-                }
-            }
-        }
-        return relationshipFields;
+    /**
+     * @param fieldInfo the field to check
+     * @return True if the given field is one of this classInfo's relationship fields
+     */
+    boolean isRelationshipField(FieldInfo fieldInfo) {
+        return relationshipFieldPlan().fields.contains(fieldInfo);
     }
 
     /**
@@ -524,12 +526,7 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.relationship().equalsIgnoreCase(relationshipName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return relationshipName == null ? null : relationshipFieldPlan().byType.get(foldCase(relationshipName));
     }
 
     /**
@@ -541,16 +538,8 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName, Direction relationshipDirection, boolean strict) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                Direction declaredDirection = fieldInfo.relationshipDirectionOrDefault(Direction.OUTGOING);
-                if (isActualDirectionCompatibleWithDeclaredDirection(relationshipDirection, declaredDirection)) {
-                    return fieldInfo;
-                }
-            }
-        }
-        return null;
+        Set<FieldInfo> candidateFields = candidateRelationshipFields(relationshipName, relationshipDirection, strict);
+        return candidateFields.isEmpty() ? null : candidateFields.iterator().next();
     }
 
     /**
@@ -559,21 +548,14 @@ public class ClassInfo {
      * @param relationshipName      the relationshipName of the field to find
      * @param relationshipDirection the direction of the relationship
      * @param strict                if true, does not infer relationship type but looks for it in the @Relationship annotation. Null if missing. If false, infers relationship type from FieldInfo
-     * @return Set of  FieldInfo objects describing the required relationship field, or empty set if it doesn't exist.
+     * @return Unmodifiable set of FieldInfo objects describing the required relationship field, or empty set if it doesn't exist.
      */
     public Set<FieldInfo> candidateRelationshipFields(String relationshipName, Direction relationshipDirection,
         boolean strict) {
-        Set<FieldInfo> candidateFields = new HashSet<>();
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                Direction declaredDirection = fieldInfo.relationshipDirectionOrDefault(Direction.OUTGOING);
-                if (isActualDirectionCompatibleWithDeclaredDirection(relationshipDirection, declaredDirection)) {
-                    candidateFields.add(fieldInfo);
-                }
-            }
-        }
-        return candidateFields;
+        Map<String, Set<FieldInfo>> candidatesByType = relationshipFieldPlan()
+            .candidatesByType(relationshipDirection, strict);
+        Set<FieldInfo> candidateFields = candidatesByType.get(foldCase(relationshipName));
+        return candidateFields == null ? Collections.emptySet() : candidateFields;
     }
 
     /**
@@ -583,12 +565,34 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipFieldByName(String fieldName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.getName().equalsIgnoreCase(fieldName)) {
-                return fieldInfo;
-            }
+        return fieldName == null ? null : relationshipFieldPlan().byName.get(foldCase(fieldName));
+    }
+
+    private RelationshipFieldPlan relationshipFieldPlan() {
+        RelationshipFieldPlan plan = this.relationshipFieldPlan;
+        if (plan == null) {
+            plan = initRelationshipFieldPlan();
         }
-        return null;
+        return plan;
+    }
+
+    private synchronized RelationshipFieldPlan initRelationshipFieldPlan() {
+        if (relationshipFieldPlan == null) {
+            relationshipFieldPlan = new RelationshipFieldPlan(fieldsInfo().fields(), identityFieldOrNull());
+        }
+        return relationshipFieldPlan;
+    }
+
+    /**
+     * Folds the case of the given string, so that two strings are {@link String#equalsIgnoreCase(String) equal
+     * ignoring case} if and only if their folded representations are equal.
+     */
+    private static String foldCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; ++i) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 
     public Field getField(FieldInfo fieldInfo) {
@@ -769,6 +773,29 @@ public class ClassInfo {
         return cls;
     }
 
+    /**
+     * Returns a method handle for the no-args constructor of the underlying class, typed as {@code ()Object}. The
+     * constructor is looked up and made accessible only on the first call.
+     *
+     * @return A method handle creating new instances of the underlying class
+     * @throws ReflectiveOperationException if the underlying class has no accessible no-args constructor
+     */
+    public MethodHandle getDefaultConstructor() throws ReflectiveOperationException {
+
+        MethodHandle constructor = this.defaultConstructor;
+        if (constructor == null) {
+            Constructor<?> declaredConstructor = cls.getDeclaredConstructor();
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                declaredConstructor.setAccessible(true);
+                return null;
+            });
+            constructor = MethodHandles.lookup().unreflectConstructor(declaredConstructor)
+                .asType(MethodType.methodType(Object.class));
+            this.defaultConstructor = constructor;
+        }
+        return constructor;
+    }
+
     /**
      * Gets the class of the type parameter description of the entity related to this.
      * The match is done based on the following-
@@ -1154,4 +1181,113 @@ public class ClassInfo {
             ", neo4jName='" + neo4jName + '\'' +
             '}';
     }
+
+    /**
+     * The relationship fields of a class together with their lookups by relationship type, direction and field name.
+     * It is computed once, after the class hierarchy has been built, so that the lookups done for every entity while
+     * mapping don't need to walk all fields.
+     */
+    private static final class RelationshipFieldPlan {
+
+        final Set<FieldInfo> fields;
+
+        /**
+         * First relationship field for a relationship type, regardless of its direction.
+         */
+        final Map<String, FieldInfo> byType;
+
+        final Map<String, FieldInfo> byName;
+
+        /**
+         * Relationship fields compatible with an actual {@link Direction#INCOMING} or {@link Direction#OUTGOING}
+         * relationship, keyed by the declared or inferred relationship type.
+         */
+        final Map<String, Set<FieldInfo>> inferredIncoming;
+        final Map<String, Set<FieldInfo>> inferredOutgoing;
+
+        /**
+         * Same as above, but only for fields explicitly annotated with a relationship type.
+         */
+        final Map<String, Set<FieldInfo>> strictIncoming;
+        final Map<String, Set<FieldInfo>> strictOutgoing;
+
+        RelationshipFieldPlan(Collection<FieldInfo> allFields, FieldInfo identityField) {
+
+            Set<FieldInfo> relationshipFields = new LinkedHashSet<>();
+            for (FieldInfo fieldInfo : allFields) {
+                if (fieldInfo != identityField) {
+                    if (!fieldInfo.getAnnotations().has(Relationship.class)) {
+                        if (!fieldInfo.persistableAsProperty()) {
+                            relationshipFields.add(fieldInfo);
+                        }
+                    } else {
+                        relationshipFields.add(fieldInfo);
+                    }
+                }
+            }
+
+            Map<String, FieldInfo> fieldsByType = new HashMap<>();
+            Map<String, FieldInfo> fieldsByName = new HashMap<>();
+            Map<String, Set<FieldInfo>> inferredIncomingFields = new HashMap<>();
+            Map<String, Set<FieldInfo>> inferredOutgoingFields = new HashMap<>();
+            Map<String, Set<FieldInfo>> strictIncomingFields = new HashMap<>();
+            Map<String, Set<FieldInfo>> strictOutgoingFields = new HashMap<>();
+
+            for (FieldInfo fieldInfo : relationshipFields) {
+                String inferredType = foldCase(fieldInfo.declaredOrInferredRelationshipType());
+                String annotatedType = fieldInfo.relationshipTypeAnnotation();
+                Direction declaredDirection = fieldInfo.declaredRelationshipDirection(Direction.OUTGOING);
+
+                fieldsByType.putIfAbsent(inferredType, fieldInfo);
+                fieldsByName.putIfAbsent(foldCase(fieldInfo.getName()), fieldInfo);
+
+                if (isActualDirectionCompatibleWithDeclaredDirection(Direction.INCOMING, declaredDirection)) {
+                    addCandidate(inferredIncomingFields, inferredType, fieldInfo);
+                    if (annotatedType != null) {
+                        addCandidate(strictIncomingFields, foldCase(annotatedType), fieldInfo);
+                    }
+                }
+                if (isActualDirectionCompatibleWithDeclaredDirection(Direction.OUTGOING, declaredDirection)) {
+                    addCandidate(inferredOutgoingFields, inferredType, fieldInfo);
+                    if (annotatedType != null) {
+                        addCandidate(strictOutgoingFields, foldCase(annotatedType), fieldInfo);
+                    }
+                }
+            }
+
+            this.fields = Collections.unmodifiableSet(relationshipFields);
+            this.byType = fieldsByType;
+            this.byName = fieldsByName;
+            this.inferredIncoming = inferredIncomingFields;
+            this.inferredOutgoing = inferredOutgoingFields;
+            this.strictIncoming = strictIncomingFields;
+            this.strictOutgoing = strictOutgoingFields;
+        }
+
+        private static void addCandidate(Map<String, Set<FieldInfo>> candidates, String type, FieldInfo fieldInfo) {
+            Set<FieldInfo> candidateFields = candidates.get(type);
+            if (candidateFields == null) {
+                candidates.put(type, Collections.singleton(fieldInfo));
+            } else {
+                Set<FieldInfo> moreCandidateFields = new LinkedHashSet<>(candidateFields);
+                moreCandidateFields.add(fieldInfo);
+                candidates.put(type, Collections.unmodifiableSet(moreCandidateFields));
+            }
+        }
+
+        Map<String, Set<FieldInfo>> candidatesByType(Direction actualDirection, boolean strict) {
+            if (actualDirection == null) {
+                return Collections.emptyMap();
+            }
+            switch (actualDirection) {
+                case INCOMING:
+                    return strict ? strictIncoming : inferredIncoming;
+                case OUTGOING:
+                    return strict ? strictOutgoing : inferredOutgoing;
+                default:
+                    // Neither a declared incoming nor outgoing field is compatible with an undirected relationship
+                    return Collections.emptyMap();
+            }
+        }
+    }
 }
@@ -18,7 +18,6 @@
  */
 package org.neo4j.ogm.metadata;
 
-import static org.neo4j.ogm.metadata.ClassInfo.*;
 import static org.neo4j.ogm.metadata.reflect.GenericUtils.*;
 
 import java.lang.reflect.Field;
@@ -43,6 +42,8 @@ import org.neo4j.ogm.annotation.Relationship.Direction;
 import org.neo4j.ogm.annotation.Version;
 import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.id.InternalIdStrategy;
+import org.neo4j.ogm.metadata.reflect.FieldAccessStrategy;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
@@ -68,7 +69,12 @@ public class FieldInfo {
      * Optional field holding a delegate, from which this method was derived.
      */
     private final Field delegateHolder;
+    private volatile FieldAccessor delegateHolderAccessor;
     private final Field field;
+    /**
+     * Created on first access, so that fields are only made accessible when they are actually read or written.
+     */
+    private volatile FieldAccessor accessor;
     private final Class<?> fieldType;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
@@ -153,19 +159,27 @@ public class FieldInfo {
     }
 
     public String relationship() {
-        if (this.containingClassInfo.relationshipFields().contains(this)) {
-            if (annotations != null) {
-                AnnotationInfo relationshipAnnotation = annotations.get(Relationship.class);
-                if (relationshipAnnotation != null) {
-                    return relationshipAnnotation
-                        .get(Relationship.TYPE, RelationshipUtils.inferRelationshipType(getName()));
-                }
-            }
-            return RelationshipUtils.inferRelationshipType(getName());
+        if (this.containingClassInfo.isRelationshipField(this)) {
+            return declaredOrInferredRelationshipType();
         }
         return null;
     }
 
+    /**
+     * @return The relationship type of this field, either declared by the {@link Relationship} annotation or inferred
+     * from the field name, regardless whether this field is a relationship field at all.
+     */
+    String declaredOrInferredRelationshipType() {
+        if (annotations != null) {
+            AnnotationInfo relationshipAnnotation = annotations.get(Relationship.class);
+            if (relationshipAnnotation != null) {
+                return relationshipAnnotation
+                    .get(Relationship.TYPE, RelationshipUtils.inferRelationshipType(getName()));
+            }
+        }
+        return RelationshipUtils.inferRelationshipType(getName());
+    }
+
     public String relationshipTypeAnnotation() {
         if (!persistableAsProperty()) {
             if (annotations != null) {
@@ -223,15 +237,24 @@ public class FieldInfo {
 
     public Direction relationshipDirectionOrDefault(Direction defaultDirection) {
         if (relationship() != null) {
-            AnnotationInfo annotationInfo = getAnnotations().get(Relationship.class);
-            if (annotationInfo == null) {
-                return defaultDirection;
-            }
-            return Direction.valueOf(annotationInfo.get(Relationship.DIRECTION, defaultDirection.name()));
+            return declaredRelationshipDirection(defaultDirection);
         }
         throw new RuntimeException("relationship direction call invalid");
     }
 
+    /**
+     * @param defaultDirection the direction to return when this field has no explicit direction
+     * @return The direction declared by the {@link Relationship} annotation, regardless whether this field is a
+     * relationship field at all.
+     */
+    Direction declaredRelationshipDirection(Direction defaultDirection) {
+        AnnotationInfo annotationInfo = getAnnotations().get(Relationship.class);
+        if (annotationInfo == null) {
+            return defaultDirection;
+        }
+        return Direction.valueOf(annotationInfo.get(Relationship.DIRECTION, defaultDirection.name()));
+    }
+
     public boolean isIterable() {
         return Iterable.class.isAssignableFrom(fieldType);
     }
@@ -381,7 +404,7 @@ public class FieldInfo {
             }
         }
 
-        write(field, getInstanceOrDelegate(instance, delegateHolder), value);
+        getAccessor().write(getInstanceOrDelegate(instance), value);
     }
 
     /**
@@ -391,7 +414,7 @@ public class FieldInfo {
      * @param value    field value to be written
      */
     public void writeDirect(Object instance, Object value) {
-        write(field, instance, value);
+        getAccessor().write(instance, value);
     }
 
     /**
@@ -410,7 +433,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
+        return getAccessor().read(getInstanceOrDelegate(instance));
     }
 
     public Object readProperty(Object instance) {
@@ -418,7 +441,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
+        Object value = getAccessor().read(getInstanceOrDelegate(instance));
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -430,10 +453,32 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
+        Object value = getAccessor().read(getInstanceOrDelegate(instance));
         return getCompositeConverter().toGraphProperties(value);
     }
 
+    private Object getInstanceOrDelegate(Object instance) {
+        if (delegateHolder == null) {
+            return instance;
+        }
+        FieldAccessor holderAccessor = delegateHolderAccessor;
+        if (holderAccessor == null) {
+            holderAccessor = FieldAccessStrategy.getDefault().accessorFor(delegateHolder);
+            delegateHolderAccessor = holderAccessor;
+        }
+        return holderAccessor.read(instance);
+    }
+
+    private FieldAccessor getAccessor() {
+        // Creating an accessor twice under contention is harmless, both are equivalent.
+        FieldAccessor fieldAccessor = accessor;
+        if (fieldAccessor == null) {
+            fieldAccessor = FieldAccessStrategy.getDefault().accessorFor(field);
+            accessor = fieldAccessor;
+        }
+        return fieldAccessor;
+    }
+
     public String relationshipType() {
         return relationship();
     }
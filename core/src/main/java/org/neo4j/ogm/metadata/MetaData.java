@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
@@ -46,8 +48,22 @@ public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
+    /**
+     * Upper bound of distinct label combinations whose resolution is cached. Combinations beyond that are still
+     * resolved, but not cached, so that dynamic labels cannot grow the cache without limits.
+     */
+    private static final int MAX_CACHED_TAXA = 1024;
+
     private final DomainInfo domainInfo;
     private final Schema schema;
+    /**
+     * Caches the result of resolving a class by its name, including the classes that are not part of the domain.
+     */
+    private final Map<Class<?>, Optional<ClassInfo>> classInfosByClass = new ConcurrentHashMap<>();
+    /**
+     * Caches the result of {@link #resolve(String...)} by the combination of taxa.
+     */
+    private final Map<Taxa, Optional<ClassInfo>> resolvedTaxa = new ConcurrentHashMap<>();
 
     public MetaData(String... packages) {
         this(NoNativeTypes.INSTANCE, packages);
@@ -110,7 +126,12 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Class<?> clazz) {
-        return classInfo(clazz.getName());
+
+        Optional<ClassInfo> classInfo = classInfosByClass.get(clazz);
+        if (classInfo == null) {
+            classInfo = classInfosByClass.computeIfAbsent(clazz, key -> Optional.ofNullable(classInfo(key.getName())));
+        }
+        return classInfo.orElse(null);
     }
 
     /**
@@ -120,7 +141,7 @@ public class MetaData {
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Object object) {
-        return classInfo(object.getClass().getName());
+        return classInfo(object.getClass());
     }
 
     private ClassInfo _classInfo(String name, Class<?> nodeEntityAnnotation) {
@@ -147,11 +168,27 @@ public class MetaData {
      * Given an set of names (simple or fully-qualified) that are possibly within a type hierarchy, this function returns the
      * base class from among them.
      *
+     * The result is cached by the given taxa, so that resolving the labels of many nodes is mostly a single lookup.
+     *
      * @param taxa the taxa (simple class names or labels)
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
+     * @throws AmbiguousBaseClassException if the taxa resolve to more than one base class
      */
     public ClassInfo resolve(String... taxa) {
 
+        Optional<ClassInfo> resolved = resolvedTaxa.get(new Taxa(taxa));
+        if (resolved == null) {
+            resolved = Optional.ofNullable(resolveUncached(taxa));
+            if (resolvedTaxa.size() < MAX_CACHED_TAXA) {
+                // Copy the taxa, the caller still owns the array
+                resolvedTaxa.putIfAbsent(new Taxa(taxa.clone()), resolved);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    private ClassInfo resolveUncached(String... taxa) {
+
         if (taxa.length > 0) {
 
             Set<ClassInfo> resolved = new HashSet<>();
@@ -309,4 +346,35 @@ public class MetaData {
     public void registerConversionCallback(ConversionCallback conversionCallback) {
         this.domainInfo.registerConversionCallback(conversionCallback);
     }
+
+    /**
+     * Key of a combination of taxa, compared element by element.
+     */
+    private static final class Taxa {
+
+        private final String[] values;
+        private final int hashCode;
+
+        Taxa(String[] values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Taxa)) {
+                return false;
+            }
+            Taxa other = (Taxa) o;
+            return hashCode == other.hashCode && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -38,8 +38,6 @@ import org.neo4j.ogm.session.EntityInstantiator;
  */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
-
     private final MetaData metadata;
     private EntityInstantiator entityInstantiator;
 
@@ -100,28 +98,17 @@ public class EntityFactory {
             throw new BaseClassNotFoundException("<null>");
         }
 
-        String fqn = resolve(taxa);
+        // Resolution of the taxa is cached by the metadata
+        ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            throw new BaseClassNotFoundException(Arrays.toString(taxa));
+        }
 
         @SuppressWarnings("unchecked")
-        Class<T> loadedClass = (Class<T>) metadata.classInfo(fqn).getUnderlyingClass();
+        Class<T> loadedClass = (Class<T>) classInfo.getUnderlyingClass();
         return instantiate(loadedClass, propertyValues);
     }
 
-    private String resolve(String... taxa) {
-
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
-
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
-            if (classInfo == null) {
-                throw new BaseClassNotFoundException(Arrays.toString(taxa));
-            }
-            fqn = classInfo.name();
-            taxaLeafClass.put(Arrays.toString(taxa), fqn);
-        }
-        return fqn;
-    }
-
     private <T> T instantiate(Class<T> loadedClass, Map<String, Object> propertyValues) {
         return entityInstantiator.createInstance(loadedClass, propertyValues);
     }
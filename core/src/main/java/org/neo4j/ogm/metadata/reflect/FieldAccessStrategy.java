@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Strategies for creating {@link FieldAccessor field accessors}. {@link #METHOD_HANDLES} is the default. The strategy
+ * can be changed to {@link #REFLECTION} by setting the system property {@value #STRATEGY_PROPERTY} to
+ * {@literal reflection} (case is ignored), which restores plain {@link Field#get(Object)} and {@link Field#set(Object, Object)} access.
+ */
+public enum FieldAccessStrategy {
+
+    /**
+     * Resolves a getter and a setter {@link java.lang.invoke.MethodHandle} once per field.
+     */
+    METHOD_HANDLES {
+        @Override
+        public FieldAccessor accessorFor(Field field) {
+            try {
+                return new MethodHandleFieldAccessor(makeAccessible(field));
+            } catch (RuntimeException | IllegalAccessException e) {
+                LOGGER.debug("Could not create method handles for {}, falling back to reflection", field, e);
+                return REFLECTION.accessorFor(field);
+            }
+        }
+    },
+
+    /**
+     * Uses {@link Field#get(Object)} and {@link Field#set(Object, Object)} on a field that has been made accessible once.
+     */
+    REFLECTION {
+        @Override
+        public FieldAccessor accessorFor(Field field) {
+            return new ReflectionFieldAccessor(makeAccessible(field));
+        }
+    };
+
+    /**
+     * Name of the system property that selects the default strategy.
+     */
+    public static final String STRATEGY_PROPERTY = "org.neo4j.ogm.fieldAccessStrategy";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldAccessStrategy.class);
+
+    private static final FieldAccessStrategy DEFAULT = AccessController
+        .doPrivileged((PrivilegedAction<FieldAccessStrategy>) () -> fromString(System.getProperty(STRATEGY_PROPERTY)));
+
+    /**
+     * @return The strategy used for all mapped fields
+     */
+    public static FieldAccessStrategy getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new accessor for the given field. This is the only place where the field is made accessible.
+     *
+     * @param field The field to access
+     * @return An accessor for the field
+     */
+    public abstract FieldAccessor accessorFor(Field field);
+
+    /**
+     * Parses the value of {@value #STRATEGY_PROPERTY}, ignoring case and surrounding whitespace. Unknown values are
+     * logged and {@link #METHOD_HANDLES} is used instead, so that a typo doesn't prevent the mapping from working.
+     *
+     * @param value The configured value, may be {@literal null}
+     * @return The matching strategy, {@link #METHOD_HANDLES} if the value is empty or unknown
+     */
+    static FieldAccessStrategy fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return METHOD_HANDLES;
+        }
+        for (FieldAccessStrategy strategy : values()) {
+            if (strategy.name().equalsIgnoreCase(value.trim())) {
+                return strategy;
+            }
+        }
+        LOGGER.warn("Unknown value '{}' for {}, using {}. Allowed values are {} and {}.", value, STRATEGY_PROPERTY,
+            METHOD_HANDLES, METHOD_HANDLES, REFLECTION);
+        return METHOD_HANDLES;
+    }
+
+    static Field makeAccessible(Field field) {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            field.setAccessible(true);
+            return null;
+        });
+        return field;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+/**
+ * Reads and writes the value of a single field of an entity. Instances are resolved once per field when the
+ * {@link org.neo4j.ogm.metadata.FieldInfo} is created and are then used for every access to that field, so that no
+ * lookup, access check or privileged action is necessary per access.
+ *
+ * @see FieldAccessStrategy
+ */
+public interface FieldAccessor {
+
+    /**
+     * @param instance The instance to read from
+     * @return The current value of the field
+     */
+    Object read(Object instance);
+
+    /**
+     * @param instance The instance to write to
+     * @param value    The new value of the field
+     */
+    void write(Object instance, Object value);
+}
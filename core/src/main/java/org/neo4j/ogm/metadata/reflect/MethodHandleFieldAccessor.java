@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import static java.lang.invoke.MethodType.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Accesses a field through method handles that are resolved once. Final fields cannot be written through a method
+ * handle on all supported JDKs, so writes to them use the accessible field directly. The setter handle only accepts
+ * values of the exact (boxed) field type. Every other value goes through {@link Field#set(Object, Object)}, so that
+ * widening conversions and its error semantics are retained.
+ * <p>
+ * The handles are held in instance fields, one accessor per mapped field, so the JIT cannot treat them as constants
+ * and inline the access the way it can for handles in {@code static final} fields. Compared to an accessible
+ * {@link Field} this mainly saves the access checks and argument boxing of reflection; it is not expected to be
+ * substantially faster, and no benchmark in this build measures the difference.
+ */
+final class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private final ReflectionFieldAccessor fallback;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    private final Class<?> acceptedType;
+
+    private final boolean primitive;
+
+    MethodHandleFieldAccessor(Field field) throws IllegalAccessException {
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        this.fallback = new ReflectionFieldAccessor(field);
+        this.getter = lookup.unreflectGetter(field).asType(methodType(Object.class, Object.class));
+        this.setter = resolveSetter(lookup, field);
+        this.primitive = field.getType().isPrimitive();
+        this.acceptedType = ClassUtils.primitiveToWrapper(field.getType());
+    }
+
+    private static MethodHandle resolveSetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectSetter(field).asType(methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Object read(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void write(Object instance, Object value) {
+        if (!canUseSetter(value)) {
+            fallback.write(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private boolean canUseSetter(Object value) {
+        if (setter == null) {
+            return false;
+        }
+        if (value == null) {
+            return !primitive;
+        }
+        return primitive ? value.getClass() == acceptedType : acceptedType.isInstance(value);
+    }
+}
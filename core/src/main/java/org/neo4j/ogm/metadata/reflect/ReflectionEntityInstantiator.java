@@ -18,19 +18,26 @@
  */
 package org.neo4j.ogm.metadata.reflect;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.EntityInstantiator;
 
 /**
- * Simple instantiator that uses the no-arg constructor, without using property values.
+ * Simple instantiator that uses the no-arg constructor, without using property values. For classes known to the
+ * {@link MetaData}, the constructor is resolved once and cached in the corresponding {@link ClassInfo}.
  */
 public class ReflectionEntityInstantiator implements EntityInstantiator {
 
+    private final MetaData metadata;
+
     public ReflectionEntityInstantiator(MetaData metadata) {
+        this.metadata = metadata;
     }
 
     /**
@@ -38,6 +45,31 @@ public class ReflectionEntityInstantiator implements EntityInstantiator {
      */
     @Override
     public <T> T createInstance(Class<T> clazz, Map<String, Object> propertyValues) {
+
+        ClassInfo classInfo = metadata == null ? null : metadata.classInfo(clazz);
+        if (classInfo == null || classInfo.getUnderlyingClass() != clazz) {
+            return createInstanceWithoutCache(clazz);
+        }
+
+        MethodHandle defaultConstructor;
+        try {
+            defaultConstructor = classInfo.getDefaultConstructor();
+        } catch (SecurityException | ReflectiveOperationException e) {
+            throw new MappingException("Unable to find default constructor to instantiate " + clazz, e);
+        }
+
+        try {
+            return clazz.cast((Object) defaultConstructor.invokeExact());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Same exception chain as Constructor#newInstance would produce
+            throw new MappingException("Unable to find default constructor to instantiate " + clazz,
+                new InvocationTargetException(e));
+        }
+    }
+
+    private static <T> T createInstanceWithoutCache(Class<T> clazz) {
         try {
             Constructor<T> defaultConstructor = clazz.getDeclaredConstructor();
             defaultConstructor.setAccessible(true);
@@ -21,13 +21,23 @@ package org.neo4j.ogm.session;
 import static java.util.Collections.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.TransactionBinding;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.WriteProtectionTarget;
 import org.neo4j.ogm.cypher.Filter;
@@ -37,7 +47,6 @@ import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.metadata.ClassInfo;
-import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.model.Result;
@@ -53,17 +62,12 @@ import org.neo4j.ogm.session.delegates.SaveDelegate;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
 import org.neo4j.ogm.session.request.OptimisticLockingChecker;
-import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
-import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
-import org.neo4j.ogm.session.request.strategy.impl.PathNodeLoadClauseBuilder;
-import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBuilder;
-import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
-import org.neo4j.ogm.session.request.strategy.impl.SchemaNodeLoadClauseBuilder;
-import org.neo4j.ogm.session.request.strategy.impl.SchemaRelationshipLoadClauseBuilder;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.session.transaction.TransactionContext;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWork;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWorkWithoutResult;
+import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,30 +109,64 @@ public class Neo4jSession implements Session {
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
+    private final boolean useLightweightEvents;
+
+    /**
+     * Executor for delivering post save events asynchronously, may be null.
+     */
+    private Executor postSaveEventExecutor;
+
     private final boolean useStrictQuerying;
 
-    public Neo4jSession(MetaData metaData, boolean useStrictQuerying, Driver driver) {
+    private final int saveBatchSize;
 
-        this.metaData = metaData;
-        this.useStrictQuerying = useStrictQuerying;
-        this.driver = driver;
+    private final QueryStatementsCache queryStatementsCache;
 
-        this.mappingContext = new MappingContext(metaData);
-        this.txManager = new DefaultTransactionManager(this, driver.getTransactionFactorySupplier());
-        this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
-        this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+    public Neo4jSession(MetaData metaData, boolean useStrictQuerying, Driver driver) {
+        this(metaData, useStrictQuerying, driver, new QueryStatementsCache(metaData));
     }
 
     public Neo4jSession(MetaData metaData, boolean useStrictQuerying, Driver driver, List<EventListener> eventListeners,
         LoadStrategy loadStrategy, EntityInstantiator entityInstantiator) {
 
-        this(metaData, useStrictQuerying, driver);
+        this(metaData, useStrictQuerying, driver, eventListeners, loadStrategy, entityInstantiator,
+            new QueryStatementsCache(metaData));
+    }
+
+    /**
+     * Used by the {@link SessionFactory} to share the statements for loading between all its sessions.
+     */
+    Neo4jSession(MetaData metaData, boolean useStrictQuerying, Driver driver, List<EventListener> eventListeners,
+        LoadStrategy loadStrategy, EntityInstantiator entityInstantiator, QueryStatementsCache queryStatementsCache) {
+
+        this(metaData, useStrictQuerying, driver, queryStatementsCache);
         registeredEventListeners.addAll(eventListeners);
 
         this.loadStrategy = loadStrategy;
         this.entityInstantiator = entityInstantiator;
     }
 
+    private Neo4jSession(MetaData metaData, boolean useStrictQuerying, Driver driver,
+        QueryStatementsCache queryStatementsCache) {
+
+        this.metaData = metaData;
+        this.queryStatementsCache = queryStatementsCache;
+        this.useStrictQuerying = useStrictQuerying;
+        this.driver = driver;
+        this.saveBatchSize = Optional.ofNullable(driver.getConfiguration())
+            .map(Configuration::getSaveBatchSize).orElse(0);
+        this.useLightweightEvents = Optional.ofNullable(driver.getConfiguration())
+            .map(Configuration::getUseLightweightEvents).orElse(false);
+
+        this.mappingContext = new MappingContext(metaData, Optional.ofNullable(driver.getConfiguration())
+            .map(Configuration::getUseExplicitChangeTracking).orElse(false));
+        this.txManager = new DefaultTransactionManager(this, driver.getTransactionFactorySupplier(),
+            TransactionContext.of(Optional.ofNullable(driver.getConfiguration())
+                .map(Configuration::getTransactionBinding).orElse(TransactionBinding.THREAD)));
+        this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
+        this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+    }
+
     @Override
     public EventListener register(EventListener eventListener) {
         registeredEventListeners.add(eventListener);
@@ -157,6 +195,54 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * Delivers the post save events of one save. With lightweight events or an executor for post save events, all
+     * events are delivered to each listener at once. If an executor has been set, the events are delivered on that
+     * executor, after the current transaction has been committed if there is one. Otherwise, each event is delivered
+     * to all listeners before the next one.
+     *
+     * @param events the post save events of one save
+     */
+    public void notifyListenersOfPostSave(List<Event> events) {
+
+        if (events.isEmpty() || registeredEventListeners.isEmpty()) {
+            return;
+        }
+
+        Executor executor = this.postSaveEventExecutor;
+        if (executor == null && !useLightweightEvents) {
+            events.forEach(this::notifyListeners);
+            return;
+        }
+
+        List<EventListener> eventListeners = new ArrayList<>(registeredEventListeners);
+        Runnable delivery = () -> eventListeners.forEach(eventListener -> eventListener.onPostSaveBatch(events));
+
+        if (executor == null) {
+            delivery.run();
+            return;
+        }
+
+        Transaction transaction = getTransaction();
+        if (transaction instanceof AbstractTransaction) {
+            ((AbstractTransaction) transaction).registerAfterCommit(() -> executor.execute(delivery));
+        } else {
+            executor.execute(delivery);
+        }
+    }
+
+    /**
+     * Sets the executor on which post save events are delivered. Events are handed to the executor after the
+     * transaction in which the entities have been saved has been committed. Listeners are then called on a thread of
+     * the executor and must not use this session.
+     *
+     * @param postSaveEventExecutor the executor for post save events, {@literal null} to deliver them synchronously
+     * @since 4.0
+     */
+    public void setPostSaveEventExecutor(Executor postSaveEventExecutor) {
+        this.postSaveEventExecutor = postSaveEventExecutor;
+    }
+
     @Override
     public boolean eventsEnabled() {
         return registeredEventListeners.size() > 0;
@@ -425,6 +511,11 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.stream(type, cypher, parameters);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return query(cypher, parameters, false);
@@ -612,6 +703,78 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * For internal use only. Works like {@link #doInTransaction(TransactionalUnitOfWork, Transaction.Type)} for units
+     * of work returning a lazy stream. A transaction opened for the stream stays open until the stream is closed.
+     * It is committed when the stream is closed without any error having occurred while consuming it, and rolled back
+     * otherwise. Exceptions thrown while consuming the stream are translated like the ones thrown by the unit of work.
+     *
+     * @param function The callback creating the stream.
+     * @param txType   Transaction type, readonly or not.
+     * @param <T>      The type of the stream elements.
+     * @return The stream created by the callback, bound to the transaction.
+     */
+    public <T> Stream<T> streamInTransaction(TransactionalUnitOfWork<Stream<T>> function, Transaction.Type txType) {
+
+        if (!driver.requiresTransaction() || txManager.getCurrentTransaction() != null) {
+            // Nothing to finish, the transaction is managed elsewhere or not needed at all
+            return withTranslatedExceptions(doInTransaction(function, txType), failed -> {});
+        }
+
+        Transaction transaction = beginTransaction(txType);
+        Consumer<Boolean> finishTransaction = failed -> {
+            try {
+                if (failed) {
+                    if (txManager.canRollback()) {
+                        logger.warn("Error consuming query results. Rolling back transaction.");
+                        transaction.rollback();
+                    }
+                } else if (txManager.canCommit()) {
+                    transaction.commit();
+                }
+            } finally {
+                if (!transaction.status().equals(Transaction.Status.CLOSED)) {
+                    transaction.close();
+                }
+            }
+        };
+
+        Stream<T> stream;
+        try {
+            stream = function.doInTransaction();
+        } catch (Throwable e) {
+            logger.warn("Error executing query : {}. Rolling back transaction.", e.getMessage());
+            finishTransaction.accept(true);
+            throw driver.getExceptionTranslator().translateExceptionIfPossible(e);
+        }
+        return withTranslatedExceptions(stream, finishTransaction);
+    }
+
+    private <T> Stream<T> withTranslatedExceptions(Stream<T> stream, Consumer<Boolean> onClose) {
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        Spliterator<T> source = stream.spliterator();
+        Spliterator<T> translating = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    return source.tryAdvance(action);
+                } catch (Throwable e) {
+                    failed.set(true);
+                    throw driver.getExceptionTranslator().translateExceptionIfPossible(e);
+                }
+            }
+        };
+        return StreamSupport.stream(translating, false).onClose(() -> {
+            try {
+                stream.close();
+            } finally {
+                onClose.accept(failed.get());
+            }
+        });
+    }
+
     @Override
     public Transaction getTransaction() {
         return txManager.getCurrentTransaction();
@@ -637,17 +800,16 @@ public class Neo4jSession implements Session {
         return graphIdDelegate.detachRelationshipEntity(id);
     }
 
+    @Override
+    public void markDirty(Object entity) {
+        mappingContext.markDirty(entity);
+    }
+
     //
     // These helper methods for the delegates are deliberately NOT defined on the Session interface
     //
     public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth) {
-        final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
-        String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
-        if (metaData.isRelationshipEntity(type.getName())) {
-            return new RelationshipQueryStatements<>(primaryIdName, loadRelationshipClauseBuilder(depth));
-        } else {
-            return new NodeQueryStatements<>(primaryIdName, loadNodeClauseBuilder(depth));
-        }
+        return queryStatementsCache.queryStatementsFor(type, loadStrategy, depth);
     }
 
     /**
@@ -681,6 +843,20 @@ public class Neo4jSession implements Session {
         return mappingContext;
     }
 
+    /**
+     * @return The maximum number of rows per statement when saving, {@literal 0} for no limit
+     */
+    public int saveBatchSize() {
+        return saveBatchSize;
+    }
+
+    /**
+     * @return True if save events are derived from the entities that are written instead of a separate traversal
+     */
+    public boolean useLightweightEvents() {
+        return useLightweightEvents;
+    }
+
     public OptimisticLockingChecker optimisticLockingChecker() {
         return new OptimisticLockingChecker(this);
     }
@@ -726,38 +902,4 @@ public class Neo4jSession implements Session {
     public void setLoadStrategy(LoadStrategy loadStrategy) {
         this.loadStrategy = loadStrategy;
     }
-
-    private LoadClauseBuilder loadNodeClauseBuilder(int depth) {
-        if (depth < 0) {
-            return new PathNodeLoadClauseBuilder();
-        }
-
-        switch (loadStrategy) {
-            case PATH_LOAD_STRATEGY:
-                return new PathNodeLoadClauseBuilder();
-
-            case SCHEMA_LOAD_STRATEGY:
-                return new SchemaNodeLoadClauseBuilder(metaData.getSchema());
-
-            default:
-                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
-        }
-    }
-
-    private LoadClauseBuilder loadRelationshipClauseBuilder(int depth) {
-        if (depth < 0) {
-            throw new IllegalArgumentException("Can't load unlimited depth for relationships");
-        }
-
-        switch (loadStrategy) {
-            case PATH_LOAD_STRATEGY:
-                return new PathRelationshipLoadClauseBuilder();
-
-            case SCHEMA_LOAD_STRATEGY:
-                return new SchemaRelationshipLoadClauseBuilder(metaData.getSchema());
-
-            default:
-                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
-        }
-    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.CachingLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.PathNodeLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.SchemaNodeLoadClauseBuilder;
+import org.neo4j.ogm.session.request.strategy.impl.SchemaRelationshipLoadClauseBuilder;
+
+/**
+ * Shares the {@link QueryStatements} used for loading between all sessions of a {@link SessionFactory}. The statements
+ * and the load clause builders are stateless. The load clauses built from the schema are cached, so that loading a
+ * type with the same depth and strategy produces the same Cypher without building it again. Ids, filter values,
+ * sorting and pagination are applied to the queries created by the statements and are not part of the cache.
+ */
+final class QueryStatementsCache {
+
+    private final MetaData metaData;
+
+    private final Map<StatementsKey, QueryStatements<?>> queryStatements = new ConcurrentHashMap<>();
+
+    private final Map<LoadStrategy, LoadClauseBuilder> nodeLoadClauseBuilders = new ConcurrentHashMap<>();
+
+    private final Map<LoadStrategy, LoadClauseBuilder> relationshipLoadClauseBuilders = new ConcurrentHashMap<>();
+
+    QueryStatementsCache(MetaData metaData) {
+        this.metaData = metaData;
+    }
+
+    @SuppressWarnings("unchecked")
+    <ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<?> type, LoadStrategy loadStrategy,
+        int depth) {
+
+        boolean relationshipEntity = metaData.isRelationshipEntity(type.getName());
+        if (relationshipEntity && depth < 0) {
+            throw new IllegalArgumentException("Can't load unlimited depth for relationships");
+        }
+        // Unlimited depth always uses the path strategy for nodes
+        LoadStrategy effectiveLoadStrategy = depth < 0 ? LoadStrategy.PATH_LOAD_STRATEGY : loadStrategy;
+
+        return (QueryStatements<ID>) queryStatements.computeIfAbsent(
+            new StatementsKey(type, effectiveLoadStrategy),
+            key -> {
+                FieldInfo fieldInfo = metaData.classInfo(type).primaryIndexField();
+                String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
+                if (relationshipEntity) {
+                    return new RelationshipQueryStatements<>(primaryIdName,
+                        relationshipLoadClauseBuilders.computeIfAbsent(effectiveLoadStrategy,
+                            this::newRelationshipLoadClauseBuilder));
+                } else {
+                    return new NodeQueryStatements<>(primaryIdName,
+                        nodeLoadClauseBuilders.computeIfAbsent(effectiveLoadStrategy,
+                            this::newNodeLoadClauseBuilder));
+                }
+            });
+    }
+
+    private LoadClauseBuilder newNodeLoadClauseBuilder(LoadStrategy loadStrategy) {
+        switch (loadStrategy) {
+            case PATH_LOAD_STRATEGY:
+                return new PathNodeLoadClauseBuilder();
+
+            case SCHEMA_LOAD_STRATEGY:
+                return new CachingLoadClauseBuilder(new SchemaNodeLoadClauseBuilder(metaData.getSchema()));
+
+            default:
+                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
+        }
+    }
+
+    private LoadClauseBuilder newRelationshipLoadClauseBuilder(LoadStrategy loadStrategy) {
+        switch (loadStrategy) {
+            case PATH_LOAD_STRATEGY:
+                return new PathRelationshipLoadClauseBuilder();
+
+            case SCHEMA_LOAD_STRATEGY:
+                return new CachingLoadClauseBuilder(new SchemaRelationshipLoadClauseBuilder(metaData.getSchema()));
+
+            default:
+                throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
+        }
+    }
+
+    private static final class StatementsKey {
+
+        private final Class<?> type;
+
+        private final LoadStrategy loadStrategy;
+
+        StatementsKey(Class<?> type, LoadStrategy loadStrategy) {
+            this.type = type;
+            this.loadStrategy = loadStrategy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StatementsKey)) {
+                return false;
+            }
+            StatementsKey that = (StatementsKey) o;
+            return type == that.type && loadStrategy == that.loadStrategy;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, loadStrategy);
+        }
+    }
+}
@@ -21,6 +21,8 @@ package org.neo4j.ogm.session;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
@@ -624,6 +626,29 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * Like {@link #query(Class, String, Map)}, but the result is mapped lazily while the returned stream is consumed,
+     * so that neither the whole result of the database nor the whole list of objects needs to be held in memory.
+     * Each domain object is contained at most once in the stream, methods annotated with {@code @PostLoad} are called
+     * once the first record containing the object has been mapped.
+     * <p>
+     * The returned stream must be closed, preferably with a try-with-resources block, and consumed by the calling
+     * thread. A transaction opened for the query is committed when the stream is closed, or rolled back if an error
+     * occurred while consuming the stream. Objects read are still tracked by this session, call {@link #clear()} after
+     * closing the stream when they aren't needed anymore.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher     The parameterizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return A lazy stream of domain objects or scalars as prescribed by the parametrized type.
+     * @since 4.0
+     */
+    default <T> Stream<T> stream(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        // Implementations not mapping lazily still have to support the stream, albeit by loading the whole result first.
+        return StreamSupport.stream(query(objectType, cypher, parameters).spliterator(), false);
+    }
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
@@ -691,6 +716,19 @@ public interface Session {
      */
     boolean detachRelationshipEntity(Long id);
 
+    /**
+     * Marks an entity as changed when the session uses explicit change tracking. With explicit change tracking, entities
+     * that have been loaded or saved are only checked for changes and traversed when saving, if they have been marked
+     * as dirty. All entities marked as dirty are saved with the next save of this session. Without explicit change
+     * tracking, every entity is checked for changes anyway, so this method does nothing. That is also what the default
+     * implementation does, for sessions that don't support explicit change tracking.
+     *
+     * @param entity the changed entity
+     * @since 4.0
+     */
+    default void markDirty(Object entity) {
+    }
+
     /**
      * Register an event listener with this session.
      *
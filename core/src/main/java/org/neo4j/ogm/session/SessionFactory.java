@@ -24,6 +24,7 @@ import static org.neo4j.ogm.config.AutoIndexMode.*;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
@@ -51,9 +52,11 @@ public class SessionFactory {
     private final Driver driver;
     private final List<EventListener> eventListeners;
     private final boolean useStrictQuerying;
+    private final QueryStatementsCache queryStatementsCache;
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
     private EntityInstantiator entityInstantiator;
+    private Executor postSaveEventExecutor;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -116,6 +119,7 @@ public class SessionFactory {
         this.useStrictQuerying = useStrictQuerying;
         this.eventListeners = new CopyOnWriteArrayList<>();
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+        this.queryStatementsCache = new QueryStatementsCache(metaData);
     }
 
     /**
@@ -149,7 +153,10 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, useStrictQuerying, driver, eventListeners, loadStrategy, entityInstantiator);
+        Neo4jSession session = new Neo4jSession(metaData, useStrictQuerying, driver, eventListeners, loadStrategy,
+            entityInstantiator, queryStatementsCache);
+        session.setPostSaveEventExecutor(postSaveEventExecutor);
+        return session;
     }
 
     /**
@@ -204,6 +211,18 @@ public class SessionFactory {
         this.entityInstantiator = entityInstantiator;
     }
 
+    /**
+     * Sets the executor on which post save events are delivered to the registered listeners, once the transaction
+     * in which the entities have been saved has been committed.
+     * Only Session instances created after this call are affected.
+     *
+     * @param postSaveEventExecutor the executor for post save events, {@literal null} to deliver them synchronously
+     * @since 4.0
+     */
+    public void setPostSaveEventExecutor(Executor postSaveEventExecutor) {
+        this.postSaveEventExecutor = postSaveEventExecutor;
+    }
+
     /**
      * Closes this session factory
      * Also closes any underlying resources, like driver etc.
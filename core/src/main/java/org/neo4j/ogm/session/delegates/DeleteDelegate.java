@@ -23,10 +23,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -69,7 +71,7 @@ public class DeleteDelegate extends SessionDelegate {
      * @param <T>   The type to work with
      */
     public <T> void deleteAll(Class<T> type) {
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
         if (classInfo != null) {
             String entityLabel = classInfo.neo4jName();
             if (entityLabel == null) {
@@ -158,7 +160,11 @@ public class DeleteDelegate extends SessionDelegate {
         deleteOneOrMoreObjects(objectsForDeletion, allNeighbours);
     }
 
-    // TODO : this is being done in multiple requests at the moment, one per object. Why not put them in a single request?
+    /**
+     * Deletes the given objects in one transaction. Objects are grouped into one statement for all relationship
+     * entities, one for all nodes and one per class with a version field, the latter checking the versions of all
+     * objects. Relationship entities are deleted before nodes, as deleting a node deletes its relationships as well.
+     */
     private void deleteOneOrMoreObjects(List<?> objects, Set<Object> neighbours) {
 
         Set<Object> notified = new HashSet<>();
@@ -172,6 +178,11 @@ public class DeleteDelegate extends SessionDelegate {
             }
         }
 
+        Map<Long, Object> relationshipEntities = new LinkedHashMap<>();
+        Map<Long, Object> nodeEntities = new LinkedHashMap<>();
+        Map<ClassInfo, Map<Long, Object>> versionedRelationshipEntities = new LinkedHashMap<>();
+        Map<ClassInfo, Map<Long, Object>> versionedNodeEntities = new LinkedHashMap<>();
+
         for (Object object : objects) {
 
             ClassInfo classInfo = session.metaData().classInfo(object);
@@ -194,64 +205,121 @@ public class DeleteDelegate extends SessionDelegate {
                             .orElse(-1L);
                     });
                 if (id >= 0) {
-                    Statement request = getDeleteStatement(object, id, classInfo);
+                    boolean relationshipEntity = session.metaData().isRelationshipEntity(classInfo.name());
+                    if (classInfo.hasVersionField()) {
+                        (relationshipEntity ? versionedRelationshipEntities : versionedNodeEntities)
+                            .computeIfAbsent(classInfo, key -> new LinkedHashMap<>()).put(id, object);
+                    } else {
+                        (relationshipEntity ? relationshipEntities : nodeEntities).put(id, object);
+                    }
                     if (session.eventsEnabled()) {
                         if (!notified.contains(object)) {
                             session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
                             notified.add(object);
                         }
                     }
-                    RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-                    session.doInTransaction(() -> {
-                        try (Response<RowModel> response = session.requestHandler().execute(query)) {
-
-                            if (request.optimisticLockingConfig().isPresent()) {
-                                List<RowModel> rowModels = response.toList();
-                                session.optimisticLockingChecker().checkResultsCount(rowModels, request);
-                            }
-
-                            if (session.metaData().isRelationshipEntity(classInfo.name())) {
-                                session.detachRelationshipEntity(id);
-                            } else {
-                                session.detachNodeEntity(id);
-                            }
-                            if (session.eventsEnabled()) {
-                                if (notified.contains(object)) {
-                                    session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-                                }
-                            }
-                        }
-                    }, Transaction.Type.READ_WRITE);
                 }
             }
         }
 
-        if (session.eventsEnabled()) {
-            for (Object affectedObject : neighbours) {
-                if (notified.contains(affectedObject)) {
-                    session.notifyListeners(new PersistenceEvent(affectedObject, Event.TYPE.POST_SAVE));
+        Runnable postDelete = () -> {
+            versionedRelationshipEntities.values().forEach(objectsById -> detach(objectsById, true, notified));
+            detach(relationshipEntities, true, notified);
+            versionedNodeEntities.values().forEach(objectsById -> detach(objectsById, false, notified));
+            detach(nodeEntities, false, notified);
+
+            if (session.eventsEnabled()) {
+                for (Object affectedObject : neighbours) {
+                    if (notified.contains(affectedObject)) {
+                        session.notifyListeners(new PersistenceEvent(affectedObject, Event.TYPE.POST_SAVE));
+                    }
                 }
             }
+        };
+
+        if (relationshipEntities.isEmpty() && nodeEntities.isEmpty() && versionedRelationshipEntities.isEmpty()
+            && versionedNodeEntities.isEmpty()) {
+            postDelete.run();
+            return;
         }
+
+        session.doInTransaction(() -> {
+            DeleteStatements relationshipDeleteStatements = new RelationshipDeleteStatements();
+            DeleteStatements nodeDeleteStatements = new NodeDeleteStatements();
+
+            versionedRelationshipEntities.forEach((classInfo, objectsById) ->
+                deleteInBatches(objectsById, batch -> relationshipDeleteStatements.delete(batch, classInfo)));
+            deleteInBatches(relationshipEntities,
+                batch -> relationshipDeleteStatements.delete(new ArrayList<>(batch.keySet())));
+            versionedNodeEntities.forEach((classInfo, objectsById) ->
+                deleteInBatches(objectsById, batch -> nodeDeleteStatements.delete(batch, classInfo)));
+            deleteInBatches(nodeEntities, batch -> nodeDeleteStatements.delete(new ArrayList<>(batch.keySet())));
+        }, Transaction.Type.READ_WRITE);
+
+        // Objects are only detached once all batches have succeeded and, if the delete opened its own transaction,
+        // that transaction has been committed. Inside a transaction managed by the caller, they are detached
+        // right away, as with any other session operation.
+        postDelete.run();
     }
 
-    private DeleteStatements getDeleteStatementsBasedOnType(Class type) {
-        if (session.metaData().isRelationshipEntity(type.getName())) {
-            return new RelationshipDeleteStatements();
+    /**
+     * Executes the statements created for the given objects, with at most {@link Neo4jSession#saveBatchSize()} objects
+     * per statement.
+     */
+    private void deleteInBatches(Map<Long, Object> objectsById,
+        Function<Map<Long, Object>, Statement> statementFactory) {
+
+        if (objectsById.isEmpty()) {
+            return;
+        }
+
+        int batchSize = session.saveBatchSize() > 0 ? session.saveBatchSize() : objectsById.size();
+        Map<Long, Object> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, Object> entry : objectsById.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == batchSize) {
+                deleteBatch(statementFactory.apply(batch));
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleteBatch(statementFactory.apply(batch));
         }
-        return new NodeDeleteStatements();
     }
 
-    private Statement getDeleteStatement(Object object, Long identity, ClassInfo classInfo) {
-        DeleteStatements deleteStatements = getDeleteStatementsBasedOnType(object.getClass());
+    private void deleteBatch(Statement request) {
 
-        Statement request;
-        if (classInfo.hasVersionField()) {
-            request = deleteStatements.delete(identity, object, classInfo);
-        } else {
-            request = deleteStatements.delete(identity);
+        RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+        try (Response<RowModel> response = session.requestHandler().execute(query)) {
+
+            if (request.optimisticLockingConfig().isPresent()) {
+                List<RowModel> rowModels = response.toList();
+                session.optimisticLockingChecker().checkResultsCount(rowModels, request);
+            }
+        }
+    }
+
+    private void detach(Map<Long, Object> objectsById, boolean relationshipEntities, Set<Object> notified) {
+
+        objectsById.forEach((id, object) -> {
+            if (relationshipEntities) {
+                session.detachRelationshipEntity(id);
+            } else {
+                session.detachNodeEntity(id);
+            }
+            if (session.eventsEnabled()) {
+                if (notified.contains(object)) {
+                    session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
+                }
+            }
+        });
+    }
+
+    private DeleteStatements getDeleteStatementsBasedOnType(Class type) {
+        if (session.metaData().isRelationshipEntity(type.getName())) {
+            return new RelationshipDeleteStatements();
         }
-        return request;
+        return new NodeDeleteStatements();
     }
 
     /**
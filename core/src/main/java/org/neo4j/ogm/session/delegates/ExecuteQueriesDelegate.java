@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.EndNode;
@@ -118,6 +119,28 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return executeAndMap(type, cypher, parameters);
     }
 
+    public <T> Stream<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || VOID_TYPES.contains(type)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+
+        return session.streamInTransaction(() -> {
+            if (session.metaData().classInfo(type) != null) {
+                // Things that can be mapped to entities
+                GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+                Response<GraphModel> response = session.requestHandler().execute(request);
+                return new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
+                    .stream(type, response);
+            } else {
+                // Scalar mappings
+                RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+                Response<RowModel> response = session.requestHandler().execute(request);
+                return response.toStream().map(model -> extractColumnValue(type, model));
+            }
+        }, Transaction.Type.READ_WRITE);
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
@@ -143,7 +166,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
     private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters) {
 
         return session.<Iterable<T>>doInTransaction(() -> {
-            if (type != null && session.metaData().classInfo(type.getName()) != null) {
+            if (type != null && session.metaData().classInfo(type) != null) {
                 // Things that can be mapped to entities
                 GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
                 try (Response<GraphModel> response = session.requestHandler().execute(request)) {
@@ -193,7 +216,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
 
     public long countEntitiesOfType(Class<?> entity) {
 
-        ClassInfo classInfo = session.metaData().classInfo(entity.getName());
+        ClassInfo classInfo = session.metaData().classInfo(entity);
         if (classInfo == null) {
             return 0;
         }
@@ -207,10 +230,10 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
             for (FieldInfo fieldInfo : classInfo.fieldsInfo().fields()) {
                 if (fieldInfo.hasAnnotation(StartNode.class)) {
                     startNodeInfo = session.metaData()
-                        .classInfo(DescriptorMappings.getType(fieldInfo.getTypeDescriptor()).getName());
+                        .classInfo(DescriptorMappings.getType(fieldInfo.getTypeDescriptor()));
                 } else if (fieldInfo.hasAnnotation(EndNode.class)) {
                     endNodeInfo = session.metaData()
-                        .classInfo(DescriptorMappings.getType(fieldInfo.getTypeDescriptor()).getName());
+                        .classInfo(DescriptorMappings.getType(fieldInfo.getTypeDescriptor()));
                 }
                 if (endNodeInfo != null && startNodeInfo != null) {
                     break;
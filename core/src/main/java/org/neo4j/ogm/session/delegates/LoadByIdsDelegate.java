@@ -70,7 +70,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
 
         QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
         PagingAndSortingQuery qry = queryStatements.findAllByType(labelsOrType.get(), convertIfNeeded(classInfo, ids), depth)
             .setSortOrder(sortOrder)
             .setPagination(pagination);
@@ -98,7 +98,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
     private <T, ID extends Serializable> Set<T> sortResultsByIds(Class<T> type, Collection<ID> ids,
         Iterable<T> mapped) {
         Map<ID, T> items = new HashMap<>();
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
 
         Function<Object, Optional<Object>> primaryIndexOrIdReader
             = classInfo.getPrimaryIndexOrIdReader();
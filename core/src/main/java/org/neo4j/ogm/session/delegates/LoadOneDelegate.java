@@ -55,7 +55,7 @@ public class LoadOneDelegate extends SessionDelegate {
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
 
-        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        ClassInfo classInfo = session.metaData().classInfo(type);
         if (classInfo == null) {
             throw new IllegalArgumentException(type + " is not a managed entity.");
         }
@@ -95,7 +95,7 @@ public class LoadOneDelegate extends SessionDelegate {
 
     private <T, U> T lookup(Class<T> type, U id) {
         Object ref;
-        ClassInfo typeInfo = session.metaData().classInfo(type.getName());
+        ClassInfo typeInfo = session.metaData().classInfo(type);
 
         FieldInfo primaryIndex = typeInfo.primaryIndexField();
         if (typeInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
@@ -53,8 +53,6 @@ public class SaveDelegate extends SessionDelegate {
 
     public <T> void save(T object, int depth) {
 
-        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
-
         EntityGraphMapper entityGraphMapper = new EntityGraphMapper(session.metaData(), session.context());
         if (this.writeProtectionStrategy != null) {
             entityGraphMapper.addWriteProtection(this.writeProtectionStrategy.get());
@@ -78,17 +76,26 @@ public class SaveDelegate extends SessionDelegate {
                 + "Please check the entity mapping.");
         }
 
+        // entities marked as dirty may not be reachable from the objects to save through changed entities
+        List<Object> markedAsDirty = session.context().getMarkedAsDirty();
+        Iterable<?> roots = objects;
+        if (!markedAsDirty.isEmpty()) {
+            List<Object> allRoots = new ArrayList<>();
+            objects.forEach(allRoots::add);
+            allRoots.addAll(markedAsDirty);
+            roots = allRoots;
+        }
+
         if (session.eventsEnabled()) {
-            objects.forEach(item -> {
-                eventsDelegate.preSave(item);
-                entityGraphMapper.map(item, depth);
-            });
-            requestExecutor.executeSave(entityGraphMapper.compileContext());
+            // pre save events are fired before mapping, so that changes made by listeners are saved
+            SaveEventDelegate eventsDelegate = new SaveEventDelegate(session, session.useLightweightEvents());
+            roots.forEach(eventsDelegate::preSave);
+            requestExecutor.executeSave(entityGraphMapper.mapAll(roots, depth));
             eventsDelegate.postSave();
         } else {
-            objects.forEach(item -> entityGraphMapper.map(item, depth));
-            requestExecutor.executeSave(entityGraphMapper.compileContext());
+            requestExecutor.executeSave(entityGraphMapper.mapAll(roots, depth));
         }
+        session.context().unmarkDirty(markedAsDirty);
     }
 
     public void addWriteProtection(WriteProtectionTarget target, Predicate<Object> protection) {
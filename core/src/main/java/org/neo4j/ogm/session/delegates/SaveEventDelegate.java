@@ -18,6 +18,8 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import static java.util.stream.Collectors.*;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,16 +54,23 @@ final class SaveEventDelegate extends SessionDelegate {
     private final Set<MappedRelationship> registeredRelationships;
     private final Set<MappedRelationship> addedRelationships;
     private final Set<MappedRelationship> deletedRelationships;
+    /**
+     * Flag, if only new entities and entities with changed properties are considered. Entities that are dirty only
+     * because relationships have been added or removed don't receive events then.
+     */
+    private final boolean lightweight;
 
-    SaveEventDelegate(Neo4jSession session) {
+    SaveEventDelegate(Neo4jSession session, boolean lightweight) {
         super(session);
 
         this.visited = new HashSet<>();
         this.preSaved = new HashMap<>();
 
-        this.registeredRelationships = new HashSet<>(session.context().getRelationships());
+        this.registeredRelationships = lightweight ?
+            Collections.emptySet() : new HashSet<>(session.context().getRelationships());
         this.addedRelationships = new HashSet<>();
         this.deletedRelationships = new HashSet<>();
+        this.lightweight = lightweight;
     }
 
     void preSave(Object object) {
@@ -85,9 +94,9 @@ final class SaveEventDelegate extends SessionDelegate {
     }
 
     void postSave() {
-        this.preSaved.entrySet().stream()
+        session.notifyListenersOfPostSave(this.preSaved.entrySet().stream()
             .map(e -> new PostSaveEvent(e.getKey(), e.getValue()))
-            .forEach(session::notifyListeners);
+            .collect(toList()));
     }
 
     private void preSaveCheck(Object object) {
@@ -179,6 +188,10 @@ final class SaveEventDelegate extends SessionDelegate {
             return true;
         }
 
+        if (lightweight) {
+            return false;
+        }
+
         ClassInfo parentClassInfo = this.session.metaData().classInfo(parent);
 
         // an RE cannot contain additional refs because hyperedges are forbidden in Neo4j
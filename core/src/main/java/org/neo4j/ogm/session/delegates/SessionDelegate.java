@@ -63,7 +63,7 @@ abstract class SessionDelegate {
             String propertyName = resolvePropertyName(filter.getOwnerEntityType(), filter.getPropertyName());
             Filter.setNameFromProperty(filter, propertyName);
 
-            ClassInfo classInfo = session.metaData().classInfo(entityType.getName());
+            ClassInfo classInfo = session.metaData().classInfo(entityType);
             FieldInfo fieldInfo = classInfo.getFieldInfo(filter.getPropertyName());
             if (fieldInfo != null) {
                 filter.setPropertyConverter(fieldInfo.getPropertyConverter());
@@ -71,7 +71,7 @@ abstract class SessionDelegate {
 
             if (filter.isNested()) {
                 resolveRelationshipType(filter);
-                ClassInfo nestedClassInfo = session.metaData().classInfo(filter.getNestedPropertyType().getName());
+                ClassInfo nestedClassInfo = session.metaData().classInfo(filter.getNestedPropertyType());
                 filter.setNestedEntityTypeLabel(session.metaData().entityType(nestedClassInfo.name()));
                 if (session.metaData().isRelationshipEntity(nestedClassInfo.name())) {
                     filter.setNestedRelationshipEntity(true);
@@ -80,7 +80,7 @@ abstract class SessionDelegate {
                 Class parentOwnerType = filter.getOwnerEntityType();
                 for (Filter.NestedPathSegment nestedPathSegment : filter.getNestedPath()) {
                     resolveRelationshipType(parentOwnerType, nestedPathSegment);
-                    ClassInfo nestedClassInfo = session.metaData().classInfo(nestedPathSegment.getPropertyType().getName());
+                    ClassInfo nestedClassInfo = session.metaData().classInfo(nestedPathSegment.getPropertyType());
                     nestedPathSegment.setNestedEntityTypeLabel(session.metaData().entityType(nestedClassInfo.name()));
                     if (session.metaData().isRelationshipEntity(nestedClassInfo.name())) {
                         nestedPathSegment.setNestedRelationshipEntity(true);
@@ -120,7 +120,7 @@ abstract class SessionDelegate {
     }
 
     private void resolveRelationshipType(Filter filter) {
-        ClassInfo classInfo = session.metaData().classInfo(filter.getOwnerEntityType().getName());
+        ClassInfo classInfo = session.metaData().classInfo(filter.getOwnerEntityType());
         FieldInfo fieldInfo = classInfo.relationshipFieldByName(filter.getNestedPropertyName());
 
         String defaultRelationshipType = RelationshipUtils.inferRelationshipType(filter.getNestedPropertyName());
@@ -128,7 +128,7 @@ abstract class SessionDelegate {
     }
 
     private void resolveRelationshipType(Class parentOwnerType, Filter.NestedPathSegment segment) {
-        ClassInfo classInfo = session.metaData().classInfo(parentOwnerType.getName());
+        ClassInfo classInfo = session.metaData().classInfo(parentOwnerType);
         FieldInfo fieldInfo = classInfo.relationshipFieldByName(segment.getPropertyName());
 
         String defaultRelationshipType = RelationshipUtils.inferRelationshipType(segment.getPropertyName());
@@ -182,7 +182,7 @@ abstract class SessionDelegate {
     }
 
     private String resolvePropertyName(Class entityType, String propertyName) {
-        ClassInfo classInfo = session.metaData().classInfo(entityType.getName());
+        ClassInfo classInfo = session.metaData().classInfo(entityType);
         FieldInfo fieldInfo = classInfo.propertyFieldByName(propertyName);
         if (fieldInfo != null && fieldInfo.getAnnotations() != null) {
             AnnotationInfo annotation = fieldInfo.getAnnotations().get(Property.class);
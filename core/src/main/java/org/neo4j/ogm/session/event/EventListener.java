@@ -18,6 +18,8 @@
  */
 package org.neo4j.ogm.session.event;
 
+import java.util.List;
+
 /**
  * @author Mihai Raulea
  * @author Vince Bickers
@@ -28,6 +30,19 @@ public interface EventListener {
 
     void onPostSave(Event event);
 
+    /**
+     * Receives all post save events of one save at once. Listeners that rather process the saved entities together
+     * may override this method, the default implementation calls {@link #onPostSave(Event)} for each event. This method
+     * is only used with lightweight events or an executor for post save events, otherwise {@link #onPostSave(Event)} is
+     * called for each event directly.
+     *
+     * @param events the post save events of one save, in no particular order
+     * @since 4.0
+     */
+    default void onPostSaveBatch(List<Event> events) {
+        events.forEach(this::onPostSave);
+    }
+
     void onPreDelete(Event event);
 
     void onPostDelete(Event event);
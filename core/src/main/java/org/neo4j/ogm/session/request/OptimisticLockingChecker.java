@@ -18,8 +18,10 @@
  */
 package org.neo4j.ogm.session.request;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +44,85 @@ public class OptimisticLockingChecker {
         this.session = session;
     }
 
+    /**
+     * Checks the results of several statements that have been executed in one request. The rows of all statements
+     * are returned as one list, so they are attributed to their statements by the returned {@code ref} column only if
+     * the overall count doesn't match. As none of the statements returns more rows than expected, the counts of
+     * all statements are correct when the total count is.
+     * <p>
+     * All stale entities of all statements are detached before an {@link OptimisticLockingException} is thrown.
+     *
+     * @param models     the rows returned by all statements
+     * @param statements the statements that have been executed, all of them require a results count check
+     */
+    public void checkResultsCount(List<RowModel> models, List<Statement> statements) {
+
+        if (statements.size() == 1) {
+            checkResultsCount(models, statements.get(0));
+            return;
+        }
+
+        int expectedResultsCount = 0;
+        for (Statement statement : statements) {
+            expectedResultsCount += statement.optimisticLockingConfig()
+                .map(OptimisticLockingConfig::getExpectedResultsCount)
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "Statement " + statement + " doesn't require results count check"));
+        }
+        if (expectedResultsCount == models.size()) {
+            return;
+        }
+
+        Map<Statement, List<RowModel>> modelsByStatement = groupByStatement(models, statements);
+        StringBuilder message = new StringBuilder();
+        for (Statement statement : statements) {
+            try {
+                checkResultsCount(modelsByStatement.get(statement), statement);
+            } catch (OptimisticLockingException e) {
+                message.append(e.getMessage());
+            }
+        }
+        throw new OptimisticLockingException(message.toString());
+    }
+
+    private static Map<Statement, List<RowModel>> groupByStatement(List<RowModel> models, List<Statement> statements) {
+
+        Map<List<Object>, Statement> statementsByRef = new HashMap<>();
+        Map<Statement, List<RowModel>> modelsByStatement = new IdentityHashMap<>();
+        for (Statement statement : statements) {
+            Map<String, Object> parameters = statement.getParameters();
+            Object type = parameters.get("type");
+            List<Map<String, Object>> rows = (List<Map<String, Object>>) parameters.get("rows");
+            if (rows != null) {
+                for (Map<String, Object> row : rows) {
+                    Object ref = row.containsKey("nodeId") ? row.get("nodeId") : row.get("nodeRef");
+                    statementsByRef.put(refKey(type, type.equals("rel") ? row.get("relId") : ref), statement);
+                }
+            } else {
+                statementsByRef.put(refKey(type, parameters.get("id")), statement);
+            }
+            modelsByStatement.put(statement, new ArrayList<>());
+        }
+
+        for (RowModel model : models) {
+            int refPosition = ArrayUtils.indexOf(model.variables(), "ref");
+            int typePosition = ArrayUtils.indexOf(model.variables(), "type");
+            if (refPosition < 0 || typePosition < 0) {
+                continue;
+            }
+            Object[] values = model.getValues();
+            Statement statement = statementsByRef.get(refKey(values[typePosition], values[refPosition]));
+            if (statement != null) {
+                modelsByStatement.get(statement).add(model);
+            }
+        }
+        return modelsByStatement;
+    }
+
+    private static List<Object> refKey(Object type, Object ref) {
+        return Arrays.asList(type, ref instanceof Number ? ((Number) ref).longValue() : ref);
+    }
+
     public void checkResultsCount(List<RowModel> models, Statement request) {
         OptimisticLockingConfig olConfig = request.optimisticLockingConfig().orElseThrow(
             () -> new IllegalArgumentException("Statement " + request + " doesn't require results count check")
@@ -29,6 +29,7 @@ import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.TransientRelationship;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.cypher.compiler.StatementPlan;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.Statement;
@@ -68,39 +69,30 @@ public class RequestExecutor {
 
         Compiler compiler = context.getCompiler();
         compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useBatchSize(session.saveBatchSize());
 
         List<ReferenceMapping> entityReferenceMappings = new ArrayList<>();
         List<ReferenceMapping> relReferenceMappings = new ArrayList<>();
 
-        boolean forceTx =
-            compiler.updateNodesStatements().stream().anyMatch(st -> st.optimisticLockingConfig().isPresent())
-                || compiler.updateRelationshipStatements().stream()
-                .anyMatch(st -> st.optimisticLockingConfig().isPresent());
+        StatementPlan plan = compiler.plan();
 
         session.doInTransaction(() -> {
 
             //If there are statements that depend on new nodes i.e. relationships created between new nodes,
             //we must create the new nodes first, and then use their node IDs when creating relationships between them
-            if (compiler.hasStatementsDependentOnNewNodes()) {
+            if (plan.hasStatementsDependentOnNewNodes()) {
                 // execute the statements to create new nodes. The ids will be returned
                 // and will be used in subsequent statements that refer to these new nodes.
                 executeStatements(context, entityReferenceMappings, relReferenceMappings,
-                    compiler.createNodesStatements());
+                    plan.createNodesStatements());
 
-                List<Statement> statements = new ArrayList<>();
-                statements.addAll(compiler.createRelationshipsStatements());
-                statements.addAll(compiler.updateNodesStatements());
-                statements.addAll(compiler.updateRelationshipStatements());
-                statements.addAll(compiler.deleteRelationshipStatements());
-                statements.addAll(compiler.deleteRelationshipEntityStatements());
-
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                executeStatements(context, entityReferenceMappings, relReferenceMappings,
+                    plan.statementsAfterCreateNodes());
             } else { // only update / delete statements
-                List<Statement> statements = compiler.getAllStatements();
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                executeStatements(context, entityReferenceMappings, relReferenceMappings, plan.allStatements());
             }
 
-        }, forceTx, Transaction.Type.READ_WRITE);
+        }, plan.requiresTransaction(), Transaction.Type.READ_WRITE);
 
         //Update the mapping context now that the request is successful
         updateNodeEntities(context, entityReferenceMappings);
@@ -112,24 +104,35 @@ public class RequestExecutor {
         List<ReferenceMapping> relReferenceMappings, List<Statement> statements) {
         if (statements.size() > 0) {
 
+            // Statements that require a results count check are sent together as one request and are checked before
+            // any other statement is executed. This saves a round trip per checked statement with transports sending
+            // a request as a whole, such as HTTP. Bolt still runs the statements of a request one after another.
+            List<Statement> checkStatements = new ArrayList<>();
             List<Statement> noCheckStatements = new ArrayList<>();
             for (Statement statement : statements) {
                 if (statement.optimisticLockingConfig().isPresent()) {
-                    DefaultRequest request = new DefaultRequest(statement);
-                    try (Response<RowModel> response = session.requestHandler().execute(request)) {
-                        List<RowModel> rowModels = response.toList();
-                        session.optimisticLockingChecker().checkResultsCount(rowModels, statement);
-                        registerEntityIds(context, rowModels, entityReferenceMappings, relReferenceMappings);
-                    }
+                    checkStatements.add(statement);
                 } else {
                     noCheckStatements.add(statement);
                 }
             }
 
-            DefaultRequest defaultRequest = new DefaultRequest();
-            defaultRequest.setStatements(noCheckStatements);
-            try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
-                registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+            if (!checkStatements.isEmpty()) {
+                DefaultRequest checkRequest = new DefaultRequest();
+                checkRequest.setStatements(checkStatements);
+                try (Response<RowModel> response = session.requestHandler().execute(checkRequest)) {
+                    List<RowModel> rowModels = response.toList();
+                    session.optimisticLockingChecker().checkResultsCount(rowModels, checkStatements);
+                    registerEntityIds(context, rowModels, entityReferenceMappings, relReferenceMappings);
+                }
+            }
+
+            if (!noCheckStatements.isEmpty()) {
+                DefaultRequest defaultRequest = new DefaultRequest();
+                defaultRequest.setStatements(noCheckStatements);
+                try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
+                    registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+                }
             }
         }
     }
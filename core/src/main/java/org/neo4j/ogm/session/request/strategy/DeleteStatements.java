@@ -19,6 +19,7 @@
 package org.neo4j.ogm.session.request.strategy;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -49,6 +50,27 @@ public interface DeleteStatements {
      */
     CypherQuery delete(Long id, Object object, ClassInfo classInfo);
 
+    /**
+     * Construct a query to delete several objects of the same class with given ids, checking each object's version.
+     * The query returns the ids of the deleted objects, so that objects with an outdated version can be detected.
+     * <p>
+     * The default implementation only supports a single object and builds its query with
+     * {@link #delete(Long, Object, ClassInfo)}. Implementations that can delete several objects in one query should
+     * override it.
+     *
+     * @param objectsById the objects to delete by their ids
+     * @param classInfo   the class of all objects, must have a version field
+     * @return a {@link CypherQuery}
+     */
+    default CypherQuery delete(Map<Long, Object> objectsById, ClassInfo classInfo) {
+        if (objectsById.size() != 1) {
+            throw new UnsupportedOperationException(
+                getClass().getName() + " cannot delete several versioned objects with one query");
+        }
+        Map.Entry<Long, Object> objectById = objectsById.entrySet().iterator().next();
+        return delete(objectById.getKey(), objectById.getValue(), classInfo);
+    }
+
     /**
      * construct a query to delete all objects
      *
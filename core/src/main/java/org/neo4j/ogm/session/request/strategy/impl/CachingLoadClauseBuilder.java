@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static java.util.Objects.*;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+/**
+ * A {@link LoadClauseBuilder} that remembers the clauses built by another builder. Load clauses only depend on the
+ * variable, the label and the depth, but building them from the schema means walking all relationships up to the
+ * requested depth. Reusing them also ensures that the same load is always sent as exactly the same Cypher.
+ * <p>
+ * The number of cached clauses is limited, so that arbitrary dynamic labels cannot grow the cache without bounds.
+ * Clauses that don't fit into the cache anymore are built each time.
+ */
+public final class CachingLoadClauseBuilder implements LoadClauseBuilder {
+
+    private static final int MAX_CACHED_CLAUSES = 1024;
+
+    private final LoadClauseBuilder delegate;
+
+    private final Map<ClauseKey, String> clauses = new ConcurrentHashMap<>();
+
+    public CachingLoadClauseBuilder(LoadClauseBuilder delegate) {
+        this.delegate = requireNonNull(delegate);
+    }
+
+    @Override
+    public String build(String label, int depth) {
+        // Delegated as is, builders may use another default variable than the interface
+        return cached(new ClauseKey(null, label, depth), () -> delegate.build(label, depth));
+    }
+
+    @Override
+    public String build(String variable, String label, int depth) {
+        return cached(new ClauseKey(variable, label, depth), () -> delegate.build(variable, label, depth));
+    }
+
+    private String cached(ClauseKey key, Supplier<String> builder) {
+        String clause = clauses.get(key);
+        if (clause == null) {
+            clause = builder.get();
+            if (clauses.size() < MAX_CACHED_CLAUSES) {
+                clauses.putIfAbsent(key, clause);
+            }
+        }
+        return clause;
+    }
+
+    private static final class ClauseKey {
+
+        private final String variable;
+
+        private final String label;
+
+        private final int depth;
+
+        ClauseKey(String variable, String label, int depth) {
+            this.variable = variable;
+            this.label = label;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClauseKey)) {
+                return false;
+            }
+            ClauseKey that = (ClauseKey) o;
+            return depth == that.depth && Objects.equals(variable, that.variable) && Objects.equals(label, that.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(variable, label, depth);
+        }
+    }
+}
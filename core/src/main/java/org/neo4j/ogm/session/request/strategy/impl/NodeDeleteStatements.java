@@ -18,9 +18,11 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
@@ -71,6 +73,39 @@ public class NodeDeleteStatements implements DeleteStatements {
 
     }
 
+    @Override
+    public CypherQuery delete(Map<Long, Object> objectsById, ClassInfo classInfo) {
+        FieldInfo versionField = classInfo.getVersionField();
+        String version = "`" + versionField.property() + "`";
+        OptimisticLockingConfig optimisticLockingConfig = new OptimisticLockingConfig(objectsById.size(),
+            classInfo.staticLabels().toArray(new String[] {}), versionField.property());
+
+        List<Map<String, Object>> rows = new ArrayList<>(objectsById.size());
+        objectsById.forEach((id, object) -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeId", id);
+            row.put(versionField.property(), versionField.read(object));
+            rows.add(row);
+        });
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("rows", rows);
+        params.put("type", "node");
+
+        return new DefaultRowModelRequest("UNWIND $rows AS row "
+            + "MATCH (n) "
+            + "  WHERE id(n) = row.nodeId AND n." + version + " = row." + version + " "
+            + "SET "
+            + " n." + version + " = n." + version + " + 1 "
+            + "WITH n, row "
+            + " WHERE n." + version + " = row." + version + " + 1 "
+            + "OPTIONAL MATCH (n)-[r0]-() "
+            + "DELETE r0, n "
+            + "RETURN DISTINCT id(n) AS id", // Use DISTINCT because node may have multiple relationships
+            params,
+            optimisticLockingConfig);
+    }
+
     @Override
     public CypherQuery delete(Collection<Long> ids) {
         return new DefaultRowModelRequest("MATCH (n) WHERE ID(n) in $ids OPTIONAL MATCH (n)-[r0]-() DELETE r0, n",
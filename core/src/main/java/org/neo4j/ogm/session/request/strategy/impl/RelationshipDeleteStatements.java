@@ -18,9 +18,11 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
@@ -68,6 +70,37 @@ public class RelationshipDeleteStatements implements DeleteStatements {
             params, optimisticLockingConfig);
     }
 
+    @Override
+    public CypherQuery delete(Map<Long, Object> objectsById, ClassInfo classInfo) {
+        FieldInfo versionField = classInfo.getVersionField();
+        String version = "`" + versionField.property() + "`";
+        OptimisticLockingConfig optimisticLockingConfig = new OptimisticLockingConfig(objectsById.size(),
+            classInfo.staticLabels().toArray(new String[] {}), versionField.property());
+
+        List<Map<String, Object>> rows = new ArrayList<>(objectsById.size());
+        objectsById.forEach((id, object) -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("relId", id);
+            row.put(versionField.property(), versionField.read(object));
+            rows.add(row);
+        });
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("rows", rows);
+        params.put("type", "rel");
+
+        return new DefaultRowModelRequest("UNWIND $rows AS row "
+            + "MATCH (n)-[r0]->() "
+            + "  WHERE ID(r0) = row.relId AND r0." + version + " = row." + version + " "
+            + "SET "
+            + " r0." + version + " = r0." + version + " + 1 "
+            + "WITH r0, row "
+            + " WHERE r0." + version + " = row." + version + " + 1 "
+            + "DELETE r0 "
+            + "RETURN DISTINCT ID(r0) AS id",
+            params, optimisticLockingConfig);
+    }
+
     public CypherQuery delete(Collection<Long> ids) {
         return new DefaultRowModelRequest("MATCH (n)-[r0]->() WHERE ID(r0) IN $ids DELETE r0",
             Collections.singletonMap("ids", ids));
@@ -41,11 +41,24 @@ public class DefaultTransactionManager implements TransactionManager {
 
     private final Session session;
     private final BiFunction<Transaction.Type, Iterable<String>, Transaction> transactionFactory;
-    private final ThreadLocal<Transaction> currentThreadLocalTransaction = new ThreadLocal<>();
+    private final TransactionContext transactionContext;
 
     public DefaultTransactionManager(Session session,
         Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> transactionFactorySupplier) {
+        this(session, transactionFactorySupplier, TransactionContext.threadBound());
+    }
+
+    /**
+     * @param session                    The session owning this manager
+     * @param transactionFactorySupplier Supplies the factory creating new transactions
+     * @param transactionContext         Holds the current transaction
+     * @since 4.0
+     */
+    public DefaultTransactionManager(Session session,
+        Function<TransactionManager, BiFunction<Transaction.Type, Iterable<String>, Transaction>> transactionFactorySupplier,
+        TransactionContext transactionContext) {
         this.session = session;
+        this.transactionContext = transactionContext;
         this.transactionFactory = transactionFactorySupplier.apply(this);
     }
 
@@ -56,7 +69,7 @@ public class DefaultTransactionManager implements TransactionManager {
      * @return a new {@link Transaction}
      */
     public Transaction openTransaction() {
-        Transaction tx = currentThreadLocalTransaction.get();
+        Transaction tx = transactionContext.get();
         if (tx == null) {
             return openTransaction(Transaction.Type.READ_WRITE, emptySet());
         } else {
@@ -71,12 +84,14 @@ public class DefaultTransactionManager implements TransactionManager {
      * @return a new {@link Transaction}
      */
     public Transaction openTransaction(Transaction.Type type, Iterable<String> bookmarks) {
-        if (currentThreadLocalTransaction.get() == null) {
-            currentThreadLocalTransaction.set(transactionFactory.apply(type, bookmarks));
+        Transaction tx = transactionContext.get();
+        if (tx == null) {
+            tx = transactionFactory.apply(type, bookmarks);
+            transactionContext.set(tx);
         } else {
-            ((AbstractTransaction) currentThreadLocalTransaction.get()).extend(type);
+            ((AbstractTransaction) tx).extend(type);
         }
-        return currentThreadLocalTransaction.get();
+        return tx;
     }
 
     /**
@@ -117,14 +132,14 @@ public class DefaultTransactionManager implements TransactionManager {
 
     private void checkIfCurrentAndRemove(Transaction transaction, Consumer<AbstractTransaction> action) {
         if (transaction != getCurrentTransaction()) {
-            throw new TransactionManagerException("Transaction is not current for this thread");
+            throw new TransactionManagerException("Transaction is not current for this thread or session");
         }
 
         if (transaction instanceof AbstractTransaction) {
             action.accept((AbstractTransaction) transaction);
         }
 
-        currentThreadLocalTransaction.remove();
+        transactionContext.clear();
     }
 
     /**
@@ -133,7 +148,7 @@ public class DefaultTransactionManager implements TransactionManager {
      * @return this thread's transaction
      */
     public Transaction getCurrentTransaction() {
-        return currentThreadLocalTransaction.get();
+        return transactionContext.get();
     }
 
     public boolean canCommit() {
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Keeps the current transaction in a single field, so that it can be used from any thread, one at a time. The field
+ * is volatile so that a thread picking up a unit of work sees the transaction opened by the previous one.
+ */
+final class SessionBoundTransactionContext implements TransactionContext {
+
+    private volatile Transaction currentTransaction;
+
+    @Override
+    public Transaction get() {
+        return currentTransaction;
+    }
+
+    @Override
+    public void set(Transaction transaction) {
+        this.currentTransaction = transaction;
+    }
+
+    @Override
+    public void clear() {
+        this.currentTransaction = null;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Keeps the current transaction in a {@link ThreadLocal}. The entry of a thread is removed as soon as its transaction
+ * has been committed or rolled back.
+ */
+final class ThreadBoundTransactionContext implements TransactionContext {
+
+    private final ThreadLocal<Transaction> currentThreadLocalTransaction = new ThreadLocal<>();
+
+    @Override
+    public Transaction get() {
+        return currentThreadLocalTransaction.get();
+    }
+
+    @Override
+    public void set(Transaction transaction) {
+        currentThreadLocalTransaction.set(transaction);
+    }
+
+    @Override
+    public void clear() {
+        currentThreadLocalTransaction.remove();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import org.neo4j.ogm.config.TransactionBinding;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Holds the current transaction of a {@link DefaultTransactionManager}. The context decides which callers share the
+ * current transaction.
+ *
+ * @since 4.0
+ */
+public interface TransactionContext {
+
+    /**
+     * @return The current transaction or null if there is none
+     */
+    Transaction get();
+
+    /**
+     * @param transaction The new current transaction
+     */
+    void set(Transaction transaction);
+
+    /**
+     * Removes the current transaction from this context.
+     */
+    void clear();
+
+    /**
+     * @return A context binding the current transaction to the calling thread
+     */
+    static TransactionContext threadBound() {
+        return new ThreadBoundTransactionContext();
+    }
+
+    /**
+     * @return A context sharing the current transaction between all callers
+     */
+    static TransactionContext sessionBound() {
+        return new SessionBoundTransactionContext();
+    }
+
+    /**
+     * @param binding What the current transaction shall be bound to
+     * @return A new context for the given binding
+     */
+    static TransactionContext of(TransactionBinding binding) {
+        return binding == TransactionBinding.SESSION ? sessionBound() : threadBound();
+    }
+}
@@ -87,6 +87,56 @@ public class ConfigurationTest {
         assertThat(configuration.getDatabase()).isEqualTo("someDatabase");
     }
 
+    @Test
+    public void shouldConfigureSaveBatchSize() {
+        Configuration configuration;
+
+        configuration = new Configuration.Builder().build();
+        assertThat(configuration.getSaveBatchSize()).isEqualTo(0);
+
+        configuration = new Configuration.Builder().saveBatchSize(-1).build();
+        assertThat(configuration.getSaveBatchSize()).isEqualTo(0);
+
+        configuration = new Configuration.Builder().saveBatchSize(500).build();
+        assertThat(configuration.getSaveBatchSize()).isEqualTo(500);
+    }
+
+    @Test
+    public void shouldConfigureExplicitChangeTracking() {
+        assertThat(new Configuration.Builder().build().getUseExplicitChangeTracking()).isFalse();
+
+        Configuration.Builder builder = new Configuration.Builder().useExplicitChangeTracking();
+        assertThat(builder.build().getUseExplicitChangeTracking()).isTrue();
+        assertThat(Configuration.Builder.copy(builder).build().getUseExplicitChangeTracking()).isTrue();
+    }
+
+    @Test
+    public void shouldConfigureTransactionBinding() {
+        assertThat(new Configuration.Builder().build().getTransactionBinding()).isEqualTo(TransactionBinding.THREAD);
+
+        Configuration.Builder builder = new Configuration.Builder().transactionBinding("session");
+        assertThat(builder.build().getTransactionBinding()).isEqualTo(TransactionBinding.SESSION);
+        assertThat(Configuration.Builder.copy(builder).build().getTransactionBinding())
+            .isEqualTo(TransactionBinding.SESSION);
+    }
+
+    @Test
+    public void shouldRejectUnknownTransactionBinding() {
+        Configuration.Builder builder = new Configuration.Builder().transactionBinding("sesion");
+
+        assertThatIllegalArgumentException().isThrownBy(builder::build)
+            .withMessage("Unknown transaction binding 'sesion', allowed values are: thread, session");
+    }
+
+    @Test
+    public void shouldConfigureLightweightEvents() {
+        assertThat(new Configuration.Builder().build().getUseLightweightEvents()).isFalse();
+
+        Configuration.Builder builder = new Configuration.Builder().useLightweightEvents();
+        assertThat(builder.build().getUseLightweightEvents()).isTrue();
+        assertThat(Configuration.Builder.copy(builder).build().getUseLightweightEvents()).isTrue();
+    }
+
     @Test
     public void shouldConfigureCredentialsFromURIWithUTF8Characters() {
         Configuration configuration = new Configuration.Builder()
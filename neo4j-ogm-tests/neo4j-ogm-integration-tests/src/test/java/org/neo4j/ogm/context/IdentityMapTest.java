@@ -20,11 +20,15 @@ package org.neo4j.ogm.context;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.education.School;
 import org.neo4j.ogm.domain.education.Teacher;
 import org.neo4j.ogm.domain.education.TeachesAt;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
 
 /**
@@ -73,6 +77,25 @@ public class IdentityMapTest {
         assertThat(mappingContext.isDirty(teacher)).isFalse();
     }
 
+    @Test
+    public void changedPropertiesShouldBeDeterminedByPosition() {
+        Teacher teacher = new Teacher("Miss White");
+        teacher.setId(115L);
+
+        assertThat(mappingContext.getChangedProperties(teacher)).isNull();
+
+        mappingContext.addNodeEntity(teacher);
+        assertThat(mappingContext.getChangedProperties(teacher).stream()).isEmpty();
+
+        teacher.setName("Mrs Jones");
+
+        List<String> propertyNames = metaData.classInfo(teacher).propertyFields().stream()
+            .map(FieldInfo::getName)
+            .collect(Collectors.toList());
+        assertThat(mappingContext.getChangedProperties(teacher).stream())
+            .containsExactly(propertyNames.indexOf("name"));
+    }
+
     @Test // GH-684
     public void testNodeAndRelationshipWithSameId() {
 
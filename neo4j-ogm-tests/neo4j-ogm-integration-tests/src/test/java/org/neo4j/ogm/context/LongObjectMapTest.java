@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void shouldStoreRetrieveAndRemoveValues() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(-1L, "b")).isNull();
+        assertThat(map.put(1L, "c")).isEqualTo("a");
+        assertThat(map.putIfAbsent(-1L, "d")).isEqualTo("b");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L)).isEqualTo("c");
+        assertThat(map.get(-1L)).isEqualTo("b");
+        assertThat(map.containsKey(2L)).isFalse();
+
+        assertThat(map.remove(1L)).isEqualTo("c");
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.containsKey(1L)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(-1L)).isNull();
+    }
+
+    @Test
+    public void shouldKeepInsertionOrderWhenGrowingAndRemoving() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < 10_000; ++i) {
+            long key = i * 7919 - 5000;
+            map.put(key, i);
+            expected.add(key);
+        }
+        for (long i = 0; i < 10_000; i += 3) {
+            long key = i * 7919 - 5000;
+            map.remove(key);
+            expected.remove(Long.valueOf(key));
+        }
+        map.put(Long.MAX_VALUE, 0L);
+        expected.add(Long.MAX_VALUE);
+
+        List<Long> keys = new ArrayList<>();
+        map.forEach((key, value) -> keys.add(key));
+        assertThat(keys).isEqualTo(expected);
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.values()).hasSize(expected.size());
+        for (Long key : expected) {
+            assertThat(map.containsKey(key)).isTrue();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldNotAcceptNullValues() {
+        new LongObjectMap<>().put(1L, null);
+    }
+}
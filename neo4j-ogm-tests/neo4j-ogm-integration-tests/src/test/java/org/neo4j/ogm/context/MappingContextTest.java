@@ -170,6 +170,45 @@ public class MappingContextTest {
         assertThat(mappingContext.getRelationships()).hasSize(1);
     }
 
+    @Test
+    public void relationshipsOfANodeShouldBeIndexed() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+
+        Person rik = new Person("rik");
+        rik.setId(3L);
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(rik);
+        mappingContext.addNodeEntity(healthcare);
+
+        MappedRelationship jimInfluencesHealthcare = new MappedRelationship(jim.getId(), "INFLUENCES",
+            healthcare.getId(), null, Person.class, Policy.class);
+        MappedRelationship rikWorksWithJim = new MappedRelationship(rik.getId(), "WORKS_WITH", jim.getId(), null,
+            Person.class, Person.class);
+        mappingContext.addRelationship(jimInfluencesHealthcare);
+        mappingContext.addRelationship(rikWorksWithJim);
+
+        assertThat(mappingContext.getRelationshipsOf(jim.getId()))
+            .containsExactlyInAnyOrder(jimInfluencesHealthcare, rikWorksWithJim);
+        assertThat(mappingContext.getRelationshipsOf(rik.getId())).containsExactly(rikWorksWithJim);
+        assertThat(mappingContext.neighbours(jim)).containsExactlyInAnyOrder(healthcare, rik);
+
+        mappingContext.removeEntity(healthcare);
+
+        assertThat(mappingContext.getRelationshipsOf(healthcare.getId())).isEmpty();
+        assertThat(mappingContext.getRelationshipsOf(jim.getId())).containsExactly(rikWorksWithJim);
+        assertThat(mappingContext.getRelationships()).containsExactly(rikWorksWithJim);
+
+        mappingContext.clear();
+
+        assertThat(mappingContext.getRelationshipsOf(jim.getId())).isEmpty();
+        assertThat(mappingContext.getRelationshipsOf(rik.getId())).isEmpty();
+    }
+
     @Test
     public void areObjectsReportedAsDirtyCorrectly() {
         Person jim = new Person("jim");
@@ -67,6 +67,72 @@ public class REMappingContextTest {
         assertThat(entity).isNull();
     }
 
+    @Test
+    public void replacingANodeDeregistersOnlyItsDependentRelationshipEntities() throws Exception {
+        User alice = new User();
+        alice.id = 10L;
+        User bob = new User();
+        bob.id = 11L;
+        User carol = new User();
+        carol.id = 12L;
+
+        likes.from = alice;
+        likes.to = bob;
+
+        Likes otherLikes = new Likes();
+        otherLikes.id = 2L;
+        otherLikes.uuid = "other-uuid";
+        otherLikes.from = carol;
+        otherLikes.to = carol;
+
+        context.addNodeEntity(alice);
+        context.addNodeEntity(bob);
+        context.addNodeEntity(carol);
+        context.addRelationshipEntity(likes, 1L);
+        context.addRelationshipEntity(otherLikes, 2L);
+
+        context.replaceNodeEntity(bob, bob.id);
+
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+        assertThat(context.getRelationshipEntity(2L)).isSameAs(otherLikes);
+
+        context.replaceNodeEntity(carol, carol.id);
+
+        assertThat(context.getRelationshipEntity(2L)).isNull();
+    }
+
+    @Test
+    public void reassignedEndpointsShouldNotHideDependentRelationshipEntities() throws Exception {
+        User alice = new User();
+        alice.id = 10L;
+        User bob = new User();
+        bob.id = 11L;
+        User carol = new User();
+        carol.id = 12L;
+
+        likes.from = alice;
+        likes.to = bob;
+
+        context.addNodeEntity(alice);
+        context.addNodeEntity(bob);
+        context.addNodeEntity(carol);
+        context.addRelationshipEntity(likes, 1L);
+
+        // not saved yet, so the relationship in the graph still starts at alice
+        likes.from = carol;
+        context.replaceNodeEntity(alice, alice.id);
+
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+
+        // re-registered with its new start node, the old one must not be attached anymore
+        context.addRelationshipEntity(likes, 1L);
+        context.replaceNodeEntity(alice, alice.id);
+        assertThat(context.getRelationshipEntity(1L)).isSameAs(likes);
+
+        context.replaceNodeEntity(carol, carol.id);
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+    }
+
     @NodeEntity
     static class User {
 
@@ -21,6 +21,7 @@ package org.neo4j.ogm.cypher;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.After;
@@ -528,6 +529,151 @@ public class DirectRelationshipsTest {
         assertThat(statements).isEmpty();
     }
 
+    @Test
+    public void shouldMapSeveralRootsInOneRequest() {
+
+        // given
+        Folder folder = new Folder();
+        Document doc1 = new Document();
+        Document doc2 = new Document();
+        Document doc3 = new Document();
+
+        folder.getDocuments().add(doc1);
+        folder.getDocuments().add(doc2);
+        doc1.setFolder(folder);
+        doc2.setFolder(folder);
+
+        folder.setId(0L);
+        doc1.setId(1L);
+        doc2.setId(2L);
+
+        mappingContext.addNodeEntity(folder);
+        mappingContext.addNodeEntity(doc1);
+        mappingContext.addNodeEntity(doc2);
+        mappingContext.addRelationship(
+            new MappedRelationship(folder.getId(), "CONTAINS", doc1.getId(), null, Folder.class, Document.class));
+        mappingContext.addRelationship(
+            new MappedRelationship(folder.getId(), "CONTAINS", doc2.getId(), null, Folder.class, Document.class));
+
+        // when
+        doc2.setFolder(null);
+        folder.getDocuments().remove(doc2);
+        doc3.setFolder(folder);
+        folder.getDocuments().add(doc3);
+
+        Compiler compiler = mapper.mapAll(Arrays.asList(doc1, doc2, doc3), -1).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        // then
+        List<Statement> statements = compiler.createNodesStatements();
+        assertThat(cypherStatements(statements)).containsExactly(
+            "UNWIND $rows as row CREATE (n:`Document`) SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type");
+        assertThat((List) statements.get(0).getParameters().get("rows")).hasSize(1);
+
+        statements = compiler.createRelationshipsStatements();
+        assertThat(statements).hasSize(1);
+        assertThat((List) statements.get(0).getParameters().get("rows")).hasSize(1);
+
+        statements = compiler.deleteRelationshipStatements();
+        assertThat(cypherStatements(statements)).containsExactly(
+            "UNWIND $rows as row MATCH (startNode) WHERE ID(startNode) = row.startNodeId WITH row,startNode MATCH (endNode) WHERE ID(endNode) = row.endNodeId MATCH (startNode)-[rel:`CONTAINS`]->(endNode) DELETE rel");
+        assertThat((List) statements.get(0).getParameters().get("rows")).hasSize(1);
+        assertThat(mappingContext.getRelationships()).containsExactly(
+            new MappedRelationship(folder.getId(), "CONTAINS", doc1.getId(), null, Folder.class, Document.class));
+    }
+
+    @Test
+    public void shouldOnlyTraverseEntitiesMarkedAsDirtyWithExplicitChangeTracking() {
+
+        // given
+        MappingContext trackingContext = new MappingContext(mappingMetadata, true);
+
+        Folder folder = new Folder();
+        Document doc1 = new Document();
+        Document doc2 = new Document();
+
+        folder.getDocuments().add(doc1);
+        folder.getDocuments().add(doc2);
+        doc1.setFolder(folder);
+        doc2.setFolder(folder);
+
+        folder.setId(0L);
+        doc1.setId(1L);
+        doc2.setId(2L);
+
+        trackingContext.addNodeEntity(folder);
+        trackingContext.addNodeEntity(doc1);
+        trackingContext.addNodeEntity(doc2);
+        trackingContext.addRelationship(
+            new MappedRelationship(folder.getId(), "CONTAINS", doc1.getId(), null, Folder.class, Document.class));
+        trackingContext.addRelationship(
+            new MappedRelationship(folder.getId(), "CONTAINS", doc2.getId(), null, Folder.class, Document.class));
+
+        // when
+        doc2.setName("changed");
+
+        // then
+        assertThat(trackingContext.isDirty(doc2)).isFalse();
+
+        Compiler compiler = new EntityGraphMapper(mappingMetadata, trackingContext).map(folder).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        assertThat(compiler.updateNodesStatements()).isEmpty();
+        assertThat(compiler.deleteRelationshipStatements()).isEmpty();
+
+        // when
+        trackingContext.markDirty(doc2);
+
+        // then
+        assertThat(trackingContext.isDirty(doc2)).isTrue();
+        assertThat(trackingContext.isKnownUnchanged(folder)).isTrue();
+
+        List<Object> roots = new ArrayList<>();
+        roots.add(folder);
+        roots.addAll(trackingContext.getMarkedAsDirty());
+        compiler = new EntityGraphMapper(mappingMetadata, trackingContext).mapAll(roots, -1).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).hasSize(1);
+        assertThat((List) statements.get(0).getParameters().get("rows")).hasSize(1);
+        assertThat(compiler.createRelationshipsStatements()).isEmpty();
+        assertThat(compiler.deleteRelationshipStatements()).isEmpty();
+
+        trackingContext.unmarkDirty(roots);
+        assertThat(trackingContext.getMarkedAsDirty()).isEmpty();
+    }
+
+    @Test
+    public void shouldSplitRowsIntoBatches() {
+
+        Folder folder = new Folder();
+        for (int i = 0; i < 5; ++i) {
+            Document document = new Document();
+            document.setFolder(folder);
+            folder.getDocuments().add(document);
+        }
+
+        Compiler compiler = mapper.map(folder).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useBatchSize(2);
+
+        List<Integer> documentBatches = new ArrayList<>();
+        for (Statement statement : compiler.createNodesStatements()) {
+            List rows = (List) statement.getParameters().get("rows");
+            if (statement.getStatement().contains("Document")) {
+                documentBatches.add(rows.size());
+            } else {
+                assertThat(rows).hasSize(1);
+            }
+        }
+        assertThat(documentBatches).containsExactly(2, 2, 1);
+
+        List<Integer> relationshipBatches = new ArrayList<>();
+        for (Statement statement : compiler.createRelationshipsStatements()) {
+            relationshipBatches.add(((List) statement.getParameters().get("rows")).size());
+        }
+        assertThat(relationshipBatches).containsExactly(2, 2, 1);
+    }
+
     private List<String> cypherStatements(List<Statement> statements) {
         List<String> cypher = new ArrayList<>(statements.size());
         for (Statement statement : statements) {
@@ -41,6 +41,7 @@ import org.neo4j.ogm.domain.education.Student;
 import org.neo4j.ogm.domain.education.Teacher;
 import org.neo4j.ogm.domain.forum.Forum;
 import org.neo4j.ogm.domain.forum.ForumTopicLink;
+import org.neo4j.ogm.domain.forum.Member;
 import org.neo4j.ogm.domain.forum.Topic;
 import org.neo4j.ogm.domain.gh609.CyclicNodeType;
 import org.neo4j.ogm.domain.gh609.RefField;
@@ -155,6 +156,71 @@ public class CompilerTest {
         );
     }
 
+    @Test
+    public void planShouldBuildStatementsOnlyOnce() {
+
+        Student sheila = new Student("Sheila Smythe");
+        sheila.setId(0L);
+        mappingContext.addNodeEntity(sheila);
+        sheila.setName("Sheila Smythe-Jones");
+
+        Compiler compiler = mapAndCompile(sheila, -1);
+        StatementPlan plan = compiler.plan();
+
+        assertThat(plan.hasStatementsDependentOnNewNodes()).isFalse();
+        assertThat(plan.requiresTransaction()).isFalse();
+        assertThat(plan.createNodesStatements()).isEmpty();
+
+        List<Statement> statements = plan.allStatements();
+        assertThat(statements).extracting(Statement::getStatement).containsOnly(
+            "UNWIND $rows as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`DomainObject`:`Student` SET n += row.props RETURN row.nodeId as ref, ID(n) as id, $type as type"
+        );
+        assertThat(plan.statementsAfterCreateNodes()).containsExactlyElementsOf(statements);
+        assertThat(plan.allStatements().get(0)).isSameAs(statements.get(0));
+    }
+
+    @Test
+    public void planShouldReflectBuildersAddedAfterAnEarlierPlan() {
+
+        Student sheila = new Student("Sheila Smythe");
+        sheila.setId(0L);
+        mappingContext.addNodeEntity(sheila);
+        sheila.setName("Sheila Smythe-Jones");
+
+        Compiler compiler = mapAndCompile(sheila, -1);
+        assertThat(compiler.plan().createNodesStatements()).isEmpty();
+
+        compiler.newNode(-1L).addLabels(Collections.singletonList("Student")).addProperty("name", "Gary");
+
+        assertThat(compiler.plan().createNodesStatements()).hasSize(1);
+    }
+
+    @Test
+    public void updateOnlyChangedProperties() {
+
+        Member member = new Member();
+        member.setId(0L);
+        member.setUserName("vince");
+        member.setPassword("secret");
+        member.setMembershipNumber(42L);
+        member.setNicknames(new int[] { 1, 2, 3 });
+
+        mappingContext.addNodeEntity(member);
+
+        // change an element of an array and a single other property
+        member.getNicknames()[1] = 4;
+        member.setPassword("another secret");
+
+        Compiler compiler = mapAndCompile(member, 0);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).hasSize(1);
+
+        List rows = (List) statements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        Map props = (Map) ((Map) rows.get(0)).get("props");
+        assertThat(props).containsOnlyKeys("password", "nicknames");
+    }
+
     @Test
     public void doNothingIfNothingHasChanged() {
 
@@ -894,6 +960,39 @@ public class CompilerTest {
         assertThat(row.get("endNodeId")).isEqualTo(mappingContext.nativeId(adam));
     }
 
+    @Test
+    public void unrelateShouldUnmapNewRelationshipsByTypeAndEndsOrByReference() {
+
+        MultiStatementCypherCompiler compiler = new MultiStatementCypherCompiler(entity -> null);
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        for (long i = 0; i < 100; ++i) {
+            compiler.newRelationship("KNOWS").relate(i, i + 1);
+        }
+        RelationshipBuilder relationshipEntity = compiler.newRelationship("RATED");
+        relationshipEntity.setReference(4711L);
+        relationshipEntity.relate(1L, 2L);
+
+        for (long i = 0; i < 100; i += 2) {
+            compiler.unrelate(i, "KNOWS", i + 1, null);
+        }
+        compiler.unrelate(1L, "RATED", 2L, 4711L);
+        // neither a new relationship of this type nor between these nodes
+        compiler.unrelate(1L, "LIKES", 2L, null);
+        compiler.unrelate(2L, "KNOWS", 1L, null);
+
+        List<Statement> statements = compiler.createRelationshipsStatements();
+        assertThat(statements).hasSize(1);
+        assertThat((List) statements.get(0).getParameters().get("rows")).hasSize(50);
+
+        statements = compiler.deleteRelationshipStatements();
+        assertThat(statements).hasSize(2);
+        for (Statement statement : statements) {
+            assertThat((List) statement.getParameters().get("rows")).hasSize(1);
+        }
+        assertThat(compiler.deleteRelationshipEntityStatements()).isEmpty();
+    }
+
     private static Compiler mapAndCompile(Object object, int depth) {
         EntityMapper mapper = new EntityGraphMapper(mappingMetadata, mappingContext);
         CompileContext context = mapper.map(object, depth);
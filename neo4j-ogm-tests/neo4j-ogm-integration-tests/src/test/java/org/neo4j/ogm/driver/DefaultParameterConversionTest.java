@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+public class DefaultParameterConversionTest {
+
+    private final ParameterConversion parameterConversion = ParameterConversion.DefaultParameterConversion.INSTANCE;
+
+    @Test
+    public void shouldWidenIntegralNumbersAndConvertArraysToLists() {
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("int", 42);
+        parameters.put("short", (short) 4);
+        parameters.put("string", "a string");
+        parameters.put("char", 'c');
+        parameters.put("array", new String[] { "a", "b" });
+        parameters.put("null", null);
+
+        Map<String, Object> converted = parameterConversion.convertParameters(parameters);
+
+        assertThat(converted.get("int")).isEqualTo(42L);
+        assertThat(converted.get("short")).isEqualTo(4L);
+        assertThat(converted.get("string")).isSameAs(parameters.get("string"));
+        assertThat(converted.get("char")).isEqualTo("c");
+        assertThat(converted.get("array")).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(converted).containsKey("null");
+        assertThat(converted.get("null")).isNull();
+    }
+
+    @Test
+    public void shouldConvertNestedRowsLikeTheObjectMapper() {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "Jim");
+        properties.put("age", 42);
+        properties.put("scores", new int[] { 1, 2 });
+        properties.put("tags", Collections.singleton("t"));
+        properties.put("ratio", 0.5d);
+        properties.put("keyedByNumber", Collections.singletonMap(1, 2));
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("nodeRef", -1L);
+        row.put("props", properties);
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", Collections.singletonList(row));
+        parameters.put("type", "node");
+
+        Map<String, Object> expected = ObjectMapperFactory.objectMapper()
+            .convertValue(parameters, new TypeReference<HashMap<String, Object>>() {
+            });
+        Map<String, Object> converted = parameterConversion.convertParameters(parameters);
+
+        assertThat(converted).isEqualTo(expected);
+        List<?> rows = (List<?>) converted.get("rows");
+        assertThat(rows.get(0)).isNotSameAs(row);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class TypeAdapterLookupDelegateTest {
+
+    @Test
+    public void shouldResolveAdaptersForSubclassesAndReturnStableInstances() {
+
+        Map<Class<?>, Function> adapters = new LinkedHashMap<>();
+        adapters.put(Number.class, Object::toString);
+        TypeAdapterLookupDelegate lookupDelegate = new TypeAdapterLookupDelegate(adapters);
+
+        Function<Object, Object> adapter = lookupDelegate.getAdapterFor(Integer.class);
+
+        assertThat(lookupDelegate.hasAdapterFor(Integer.class)).isTrue();
+        assertThat(adapter.apply(42)).isEqualTo("42");
+        assertThat(adapter.apply(null)).isNull();
+        assertThat(lookupDelegate.getAdapterFor(Integer.class)).isSameAs(adapter);
+    }
+
+    @Test
+    public void shouldReturnIdentityWithoutMatchingAdapter() {
+
+        Map<Class<?>, Function> adapters = new LinkedHashMap<>();
+        adapters.put(Number.class, Object::toString);
+        TypeAdapterLookupDelegate lookupDelegate = new TypeAdapterLookupDelegate(adapters);
+
+        assertThat(lookupDelegate.hasAdapterFor(String.class)).isFalse();
+        assertThat(lookupDelegate.hasAdapterFor(null)).isFalse();
+        assertThat(lookupDelegate.getAdapterFor(String.class).apply("a string")).isEqualTo("a string");
+        assertThat(lookupDelegate.getAdapterFor(String.class)).isSameAs(lookupDelegate.getAdapterFor(String.class));
+    }
+}
@@ -266,6 +266,21 @@ public class ClassInfoTest {
         assertThat(fieldInfo.getName()).isEqualTo("posts");
     }
 
+    @Test
+    public void relationshipFieldLookupsShouldIgnoreCase() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        FieldInfo activityList = classInfo.relationshipFieldByName("activityList");
+        assertThat(classInfo.relationshipFieldByName("ACTIVITYLIST")).isSameAs(activityList);
+        assertThat(classInfo.relationshipField("has_activity")).isSameAs(activityList);
+        assertThat(classInfo.relationshipField("Has_Activity", Direction.OUTGOING, true)).isSameAs(activityList);
+        assertThat(classInfo.relationshipField("HAS_ACTIVITY", Direction.INCOMING, true)).isNull();
+        assertThat(classInfo.candidateRelationshipFields("HAS_ACTIVITY", Direction.UNDIRECTED, false)).isEmpty();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> classInfo.relationshipFields().remove(activityList));
+    }
+
     @Test
     public void testRelationshipGetters() {
         ClassInfo classInfo = metaData.classInfo("User");
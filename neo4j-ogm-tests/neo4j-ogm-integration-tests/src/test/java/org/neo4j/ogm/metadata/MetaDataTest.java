@@ -37,6 +37,7 @@ import javax.tools.ToolProvider;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.ogm.domain.forum.Topic;
 import org.neo4j.ogm.domain.gh391.ClassWithNonUniqueSimpleName;
 import org.neo4j.ogm.domain.gh391.SomeContainer;
 import org.neo4j.ogm.domain.gh551.ThingResult;
@@ -69,6 +70,18 @@ public class MetaDataTest {
         assertThat(metaData.classInfo("Topic").name()).isEqualTo("org.neo4j.ogm.domain.forum.Topic");
     }
 
+    @Test
+    public void classInfoShouldBeResolvedByClassOrInstance() {
+        ClassInfo topic = metaData.classInfo("org.neo4j.ogm.domain.forum.Topic");
+
+        assertThat(metaData.classInfo(topic.getUnderlyingClass())).isSameAs(topic);
+        assertThat(metaData.classInfo(topic.getUnderlyingClass())).isSameAs(topic);
+        assertThat(metaData.classInfo(new Topic())).isSameAs(topic);
+
+        assertThat(metaData.classInfo(MetaDataTest.class)).isNull();
+        assertThat(metaData.classInfo(this)).isNull();
+    }
+
     /**
      * A class can be found via its annotated label
      */
@@ -91,6 +104,20 @@ public class MetaDataTest {
         assertThat(classInfo.name()).isEqualTo("org.neo4j.ogm.domain.forum.Member");
     }
 
+    @Test
+    public void resolvedTaxaShouldNotDependOnTheCallersArray() {
+        String[] taxa = { "Login", "User" };
+        ClassInfo classInfo = metaData.resolve(taxa);
+
+        taxa[0] = "Topic";
+        taxa[1] = "IMembership";
+
+        assertThat(metaData.resolve("Login", "User")).isSameAs(classInfo);
+        assertThat(metaData.resolve(taxa)).isNotSameAs(classInfo);
+        assertThat(metaData.resolve("IMembership")).isNull();
+        assertThat(metaData.resolve("IMembership")).isNull();
+    }
+
     @Test // GH-391
     public void shouldLookupClassesByTheirSimpleNameCorrectly() {
 
@@ -26,6 +26,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.response.model.NodeModel;
 
@@ -34,11 +35,12 @@ import org.neo4j.ogm.response.model.NodeModel;
  */
 public class EntityFactoryTest {
 
+    private MetaData metadata;
     private EntityFactory entityFactory;
 
     @Before
     public void setUp() {
-        MetaData metadata = new MetaData("org.neo4j.ogm.domain.social", "org.neo4j.ogm.domain.canonical");
+        this.metadata = new MetaData("org.neo4j.ogm.domain.social", "org.neo4j.ogm.domain.canonical");
         this.entityFactory = new EntityFactory(metadata, new ReflectionEntityInstantiator(metadata));
     }
 
@@ -77,4 +79,14 @@ public class EntityFactoryTest {
         Individual instance = this.entityFactory.newObject(Individual.class, new HashMap<>());
         assertThat(instance).as("The resultant instance shouldn't be null").isNotNull();
     }
+
+    @Test
+    public void shouldResolveDefaultConstructorOnlyOnce() throws ReflectiveOperationException {
+        Individual first = this.entityFactory.newObject(Individual.class, new HashMap<>());
+        Individual second = this.entityFactory.newObject(Individual.class, new HashMap<>());
+        assertThat(first).isNotSameAs(second);
+
+        ClassInfo classInfo = metadata.classInfo(Individual.class);
+        assertThat(classInfo.getDefaultConstructor()).isSameAs(classInfo.getDefaultConstructor());
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata.reflect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+public class FieldAccessStrategyTest {
+
+    @Test
+    public void methodHandlesShouldReadAndWriteFields() throws Exception {
+        assertReadAndWrite(FieldAccessStrategy.METHOD_HANDLES);
+    }
+
+    @Test
+    public void reflectionShouldReadAndWriteFields() throws Exception {
+        assertReadAndWrite(FieldAccessStrategy.REFLECTION);
+    }
+
+    @Test
+    public void methodHandlesShouldWriteFinalFields() throws Exception {
+        FieldAccessor accessor = accessorFor(FieldAccessStrategy.METHOD_HANDLES, "immutable");
+        Entity entity = new Entity();
+
+        accessor.write(entity, "changed");
+
+        assertThat(accessor.read(entity)).isEqualTo("changed");
+    }
+
+    @Test
+    public void methodHandlesShouldRetainReflectiveConversions() throws Exception {
+        FieldAccessor accessor = accessorFor(FieldAccessStrategy.METHOD_HANDLES, "primitive");
+        Entity entity = new Entity();
+
+        accessor.write(entity, 23);
+        assertThat(entity.primitive).isEqualTo(23L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> accessor.write(entity, null));
+    }
+
+    @Test
+    public void methodHandlesShouldRejectIncompatibleValuesLikeReflection() throws Exception {
+        FieldAccessor accessor = accessorFor(FieldAccessStrategy.METHOD_HANDLES, "name");
+        Entity entity = new Entity();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> accessor.write(entity, 23));
+        assertThat(entity.name).isEqualTo("a name");
+    }
+
+    @Test
+    public void strategyShouldBeParsedIgnoringCase() {
+        assertThat(FieldAccessStrategy.fromString("reflection")).isEqualTo(FieldAccessStrategy.REFLECTION);
+        assertThat(FieldAccessStrategy.fromString(" Method_Handles ")).isEqualTo(FieldAccessStrategy.METHOD_HANDLES);
+    }
+
+    @Test
+    public void unknownOrMissingStrategyShouldFallBackToMethodHandles() {
+        assertThat(FieldAccessStrategy.fromString("unsafe")).isEqualTo(FieldAccessStrategy.METHOD_HANDLES);
+        assertThat(FieldAccessStrategy.fromString(null)).isEqualTo(FieldAccessStrategy.METHOD_HANDLES);
+    }
+
+    private static void assertReadAndWrite(FieldAccessStrategy strategy) throws Exception {
+        Entity entity = new Entity();
+
+        FieldAccessor name = accessorFor(strategy, "name");
+        FieldAccessor primitive = accessorFor(strategy, "primitive");
+
+        assertThat(name.read(entity)).isEqualTo("a name");
+        assertThat(primitive.read(entity)).isEqualTo(42L);
+
+        name.write(entity, null);
+        primitive.write(entity, 4711L);
+
+        assertThat(entity.name).isNull();
+        assertThat(entity.primitive).isEqualTo(4711L);
+    }
+
+    private static FieldAccessor accessorFor(FieldAccessStrategy strategy, String fieldName) throws Exception {
+        Field field = Entity.class.getDeclaredField(fieldName);
+        return strategy.accessorFor(field);
+    }
+
+    static class Entity {
+
+        private String name = "a name";
+
+        private long primitive = 42L;
+
+        private final String immutable = String.valueOf("immutable");
+    }
+}
@@ -20,18 +20,30 @@ package org.neo4j.ogm.persistence.examples.locking;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.locking.FriendOf;
 import org.neo4j.ogm.domain.locking.Location;
 import org.neo4j.ogm.domain.locking.PowerUser;
 import org.neo4j.ogm.domain.locking.User;
+import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.OptimisticLockingException;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.TestContainersTestBase;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Frantisek Hartman
@@ -143,6 +155,108 @@ public class NodeOptimisticLockingTest extends TestContainersTestBase {
             .isInstanceOf(OptimisticLockingException.class);
     }
 
+    @Test
+    public void givenNodesWhenDeleteCollectionThenAllNodesAreDeleted() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        session.save(Arrays.asList(frantisek, michael));
+
+        session.delete(Arrays.asList(frantisek, michael));
+
+        assertThat(session.loadAll(User.class)).isEmpty();
+    }
+
+    @Test
+    public void givenOneNodeWithWrongVersionWhenDeleteCollectionThenNoNodeIsDeleted() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        session.save(Arrays.asList(frantisek, michael));
+
+        michael.setVersion(1L);
+
+        assertThatThrownBy(() -> session.delete(Arrays.asList(frantisek, michael)))
+            .isInstanceOf(OptimisticLockingException.class)
+            .hasMessageContaining("id='" + michael.getId() + "'");
+        assertThat(session.queryForObject(Long.class, "MATCH (u:User) RETURN count(u)", Collections.emptyMap()))
+            .isEqualTo(2L);
+    }
+
+    @Test
+    public void givenRelationshipEntityAndStaleNodeWhenDeleteCollectionThenSessionIsUnchangedAfterRollback() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        FriendOf friendOf = frantisek.addFriend(michael);
+        session.save(frantisek);
+
+        michael.setVersion(1L);
+
+        try (Transaction tx = session.beginTransaction()) {
+            assertThatThrownBy(() -> session.delete(Arrays.asList(friendOf, michael)))
+                .isInstanceOf(OptimisticLockingException.class);
+            tx.rollback();
+        }
+
+        MappingContext context = ((Neo4jSession) session).context();
+        assertThat(context.getRelationshipEntity(friendOf.getId())).isSameAs(friendOf);
+        assertThat(context.getNodeEntity(michael.getId())).isSameAs(michael);
+        assertThat(session.queryForObject(Long.class, "MATCH ()-[r:FRIEND_OF]->() RETURN count(r)",
+            Collections.emptyMap())).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenNodesOfSeveralTypesWhenUpdateThenIncrementAllVersions() {
+        User frantisek = new User("Frantisek");
+        Location london = new Location("London");
+        session.save(Arrays.asList(frantisek, london));
+
+        frantisek.setName("Frantisek Hartman");
+        london.setName("Greater London");
+        session.save(Arrays.asList(frantisek, london));
+
+        assertThat(frantisek.getVersion()).isEqualTo(1L);
+        assertThat(london.getCustomVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenNodesOfSeveralTypesWhenUpdateThenCheckAllVersionsInOneRequest() {
+        AtomicInteger requests = new AtomicInteger();
+        Session countingSession = new SessionFactory(countingDriver(requests), "org.neo4j.ogm.domain.locking")
+            .openSession();
+
+        User frantisek = new User("Frantisek");
+        Location london = new Location("London");
+        countingSession.save(Arrays.asList(frantisek, london));
+
+        frantisek.setName("Frantisek Hartman");
+        london.setName("Greater London");
+        requests.set(0);
+        countingSession.save(Arrays.asList(frantisek, london));
+
+        // One statement per type, both of them checking versions, used to be two requests
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(frantisek.getVersion()).isEqualTo(1L);
+        assertThat(london.getCustomVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void givenOneNodeOfSeveralTypesWithWrongVersionWhenUpdateThenNoNodeIsUpdated() {
+        User frantisek = new User("Frantisek");
+        Location london = new Location("London");
+        session.save(Arrays.asList(frantisek, london));
+
+        frantisek.setName("Frantisek Hartman");
+        london.setName("Greater London");
+        london.setCustomVersion(1L);
+
+        assertThatThrownBy(() -> session.save(Arrays.asList(frantisek, london)))
+            .isInstanceOf(OptimisticLockingException.class)
+            .hasMessageContaining("Entity with type='[Location]'")
+            .hasMessageContaining("id='" + london.getId() + "' had incorrect version 1")
+            .satisfies(e -> assertThat(e.getMessage()).doesNotContain("[User]"));
+        assertThat(session.queryForObject(String.class, "MATCH (u:User) RETURN u.name", Collections.emptyMap()))
+            .isEqualTo("Frantisek");
+    }
+
     @Test
     public void shouldWorkWithInheritedVersionField() {
         PowerUser frantisek = new PowerUser("Frantisek");
@@ -169,4 +283,34 @@ public class NodeOptimisticLockingTest extends TestContainersTestBase {
         assertThat(london.getCustomVersion()).isEqualTo(1L);
     }
 
+    /**
+     * Wraps the driver of the test base, counting the requests that are sent through it. The wrapped driver is shared
+     * and therefore not closed.
+     */
+    private static Driver countingDriver(AtomicInteger requests) {
+        Driver driver = getDriver();
+        return (Driver) Proxy.newProxyInstance(Driver.class.getClassLoader(), new Class<?>[] { Driver.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("close")) {
+                    return null;
+                }
+                Object result = invoke(driver, method, args);
+                if (!method.getName().equals("request")) {
+                    return result;
+                }
+                return Proxy.newProxyInstance(Request.class.getClassLoader(), new Class<?>[] { Request.class },
+                    (requestProxy, requestMethod, requestArgs) -> {
+                        requests.incrementAndGet();
+                        return invoke(result, requestMethod, requestArgs);
+                    });
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
 }
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Condition;
 import org.junit.After;
@@ -808,6 +809,35 @@ public class QueryCapabilityTest extends TestContainersTestBase {
     }
 
 
+    @Test
+    public void shouldStreamEntitiesInTraversalOrder() {
+        Assume.assumeFalse(isHttpDriver());
+
+        try (Stream<Item> result = session
+            .stream(Item.class, "MATCH (i:Item)-[:NEXT*0..]->(n:Item) WHERE i.name=$name return n ,"
+                    + "[ [ (n)-[r:BELONGS_TO]->(c:Item) | [r, c] ] ]",
+                Collections.singletonMap("name", "A"))) {
+
+            assertThat(result.map(Item::getName)).containsExactly("A", "B", "C", "D");
+        }
+    }
+
+    @Test
+    public void shouldStreamScalarsAndRelationshipEntities() {
+        try (Stream<String> names = session
+            .stream(String.class, "MATCH (u:User) RETURN u.name ORDER BY u.name", Collections.emptyMap())) {
+
+            assertThat(names.limit(1)).containsExactly("Christophe");
+        }
+
+        try (Stream<Rating> ratings = session
+            .stream(Rating.class, "MATCH (u:User {name:$name})-[r:RATED]->(m) RETURN u,r,m",
+                Collections.singletonMap("name", "Vince"))) {
+
+            assertThat(ratings).extracting(Rating::getStars).containsExactly(4);
+        }
+    }
+
     @Test // GH-726
     public void shouldMapCorrectlyIfTwoClassesWithTheSameSimpleNameExist() {
         // org.neo4j.ogm.domain.gh726.package_a.SameClass
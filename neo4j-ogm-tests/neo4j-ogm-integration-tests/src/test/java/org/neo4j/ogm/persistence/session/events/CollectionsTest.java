@@ -27,7 +27,9 @@ import java.util.List;
 import org.junit.Test;
 import org.neo4j.ogm.domain.cineasts.annotated.Actor;
 import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author vince
@@ -74,6 +76,21 @@ public class CollectionsTest extends EventTestBaseClass {
         assertThat(eventListener.count()).isEqualTo(8);
     }
 
+    @Test
+    public void shouldFireEventsWhenDeletingACollectionInsideATransaction() {
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.delete(Arrays.asList(a, b));
+
+            assertThat(eventListener.captured(a, Event.TYPE.POST_DELETE)).isTrue();
+            assertThat(eventListener.captured(b, Event.TYPE.POST_DELETE)).isTrue();
+            assertThat(eventListener.captured(folder, Event.TYPE.POST_SAVE)).isTrue();
+            assertThat(((Neo4jSession) session).context().getNodeEntity(a.getId())).isNull();
+
+            tx.commit();
+        }
+    }
+
     @Test
     public void shouldFireEventWhenDeletingAllObjectsOfASpecifiedType() {
 
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.neo4j.ogm.testutil.TestContainersTestBase;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class PostSaveEventDeliveryTest extends TestContainersTestBase {
+
+    private static SessionFactory sessionFactory;
+
+    private static SessionFactory lightweightSessionFactory;
+
+    private static final BatchRecordingEventListener eventListener = new BatchRecordingEventListener();
+
+    private static final List<Runnable> submittedTasks = new ArrayList<>();
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.filesystem");
+        sessionFactory.register(eventListener);
+
+        lightweightSessionFactory = new SessionFactory(getBaseConfigurationBuilder().useLightweightEvents().build(),
+            "org.neo4j.ogm.domain.filesystem");
+        lightweightSessionFactory.register(eventListener);
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() {
+        lightweightSessionFactory.close();
+    }
+
+    @Before
+    public void init() {
+        sessionFactory.openSession().purgeDatabase();
+        sessionFactory.setPostSaveEventExecutor(null);
+        eventListener.batches.clear();
+        submittedTasks.clear();
+    }
+
+    @Test
+    public void shouldDeliverPostSaveEventsOneAfterAnotherByDefault() {
+
+        List<String> deliveries = new ArrayList<>();
+        Session session = sessionFactory.openSession();
+        session.register(new NamedEventListener("first", deliveries));
+        session.register(new NamedEventListener("second", deliveries));
+
+        session.save(folderWithDocuments());
+
+        assertThat(eventListener.batches).isEmpty();
+        assertThat(deliveries).hasSize(6);
+        for (int i = 0; i < deliveries.size(); i += 2) {
+            assertThat(deliveries.get(i)).startsWith("first:");
+            assertThat(deliveries.get(i + 1)).isEqualTo(deliveries.get(i).replace("first:", "second:"));
+        }
+    }
+
+    @Test
+    public void shouldDeliverPostSaveEventsOfOneSaveAsBatch() {
+
+        Session session = lightweightSessionFactory.openSession();
+        session.save(folderWithDocuments());
+
+        assertThat(eventListener.batches).hasSize(1);
+        assertThat(eventListener.batches.get(0)).hasSize(3)
+            .allMatch(event -> event.getLifeCycle() == Event.TYPE.POST_SAVE);
+    }
+
+    @Test
+    public void shouldSaveChangesMadeByPreSaveListenersWithLightweightEvents() {
+
+        Session session = lightweightSessionFactory.openSession();
+        session.register(new EventListenerAdapter() {
+            @Override
+            public void onPreSave(Event event) {
+                if (event.getObject() instanceof Document) {
+                    Document document = (Document) event.getObject();
+                    document.setName(document.getName() + " (checked)");
+                }
+            }
+        });
+
+        session.save(folderWithDocuments());
+
+        assertThat(sessionFactory.openSession().loadAll(Document.class))
+            .extracting(Document::getName)
+            .containsExactlyInAnyOrder("a (checked)", "b (checked)");
+    }
+
+    @Test
+    public void shouldDeliverPostSaveEventsOnExecutorAfterCommit() {
+
+        sessionFactory.setPostSaveEventExecutor(submittedTasks::add);
+        Session session = sessionFactory.openSession();
+
+        try (Transaction transaction = session.beginTransaction()) {
+            session.save(folderWithDocuments());
+            assertThat(submittedTasks).isEmpty();
+
+            transaction.commit();
+        }
+        assertThat(submittedTasks).hasSize(1);
+        assertThat(eventListener.batches).isEmpty();
+
+        submittedTasks.forEach(Runnable::run);
+        assertThat(eventListener.batches).hasSize(1);
+        assertThat(eventListener.batches.get(0)).hasSize(3);
+    }
+
+    @Test
+    public void shouldDiscardPostSaveEventsOnRollback() {
+
+        sessionFactory.setPostSaveEventExecutor(submittedTasks::add);
+        Session session = sessionFactory.openSession();
+
+        try (Transaction transaction = session.beginTransaction()) {
+            session.save(folderWithDocuments());
+
+            transaction.rollback();
+        }
+        assertThat(submittedTasks).isEmpty();
+        assertThat(eventListener.batches).isEmpty();
+    }
+
+    private static Folder folderWithDocuments() {
+
+        Folder folder = new Folder();
+        folder.setName("folder");
+        for (String name : new String[] { "a", "b" }) {
+            Document document = new Document();
+            document.setName(name);
+            document.setFolder(folder);
+            folder.getDocuments().add(document);
+        }
+        return folder;
+    }
+
+    static class NamedEventListener extends EventListenerAdapter {
+
+        private final String name;
+
+        private final List<String> deliveries;
+
+        NamedEventListener(String name, List<String> deliveries) {
+            this.name = name;
+            this.deliveries = deliveries;
+        }
+
+        @Override
+        public void onPostSave(Event event) {
+            deliveries.add(name + ":" + System.identityHashCode(event.getObject()));
+        }
+    }
+
+    static class BatchRecordingEventListener extends EventListenerAdapter {
+
+        private final List<List<Event>> batches = new ArrayList<>();
+
+        @Override
+        public void onPostSaveBatch(List<Event> events) {
+            batches.add(events);
+        }
+    }
+}
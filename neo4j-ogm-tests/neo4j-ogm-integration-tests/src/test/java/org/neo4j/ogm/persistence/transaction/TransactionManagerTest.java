@@ -21,6 +21,7 @@ package org.neo4j.ogm.persistence.transaction;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.After;
 import org.junit.Before;
@@ -29,6 +30,7 @@ import org.junit.Test;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.session.transaction.TransactionContext;
 import org.neo4j.ogm.testutil.TestContainersTestBase;
 import org.neo4j.ogm.transaction.Transaction;
 
@@ -86,4 +88,32 @@ public class TransactionManagerTest extends TestContainersTestBase {
             assertThat(tx.status()).isEqualTo(Transaction.Status.ROLLEDBACK);
         }
     }
+
+    @Test
+    public void threadBoundTransactionShouldNotBeVisibleFromOtherThreads() {
+        DefaultTransactionManager transactionManager = new DefaultTransactionManager(session,
+            getDriver().getTransactionFactorySupplier(), TransactionContext.threadBound());
+
+        try (Transaction tx = transactionManager.openTransaction()) {
+            assertThat(CompletableFuture.supplyAsync(transactionManager::getCurrentTransaction).join()).isNull();
+        }
+    }
+
+    @Test
+    public void sessionBoundTransactionShouldBeHandedAcrossThreads() {
+        DefaultTransactionManager transactionManager = new DefaultTransactionManager(session,
+            getDriver().getTransactionFactorySupplier(), TransactionContext.sessionBound());
+
+        Transaction tx = transactionManager.openTransaction();
+        Transaction.Status status = CompletableFuture.supplyAsync(() -> {
+            Transaction current = transactionManager.getCurrentTransaction();
+            current.commit();
+            current.close();
+            return current.status();
+        }).join();
+
+        assertThat(status).isEqualTo(Transaction.Status.CLOSED);
+        assertThat(tx.status()).isEqualTo(Transaction.Status.CLOSED);
+        assertThat(transactionManager.getCurrentTransaction()).isNull();
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+public class CachingLoadClauseBuilderTest {
+
+    @Test
+    public void shouldBuildEachClauseOnlyOnce() {
+        AtomicInteger builds = new AtomicInteger();
+        LoadClauseBuilder builder = new CachingLoadClauseBuilder((variable, label, depth) -> {
+            builds.incrementAndGet();
+            return new PathNodeLoadClauseBuilder().build(variable, label, depth);
+        });
+
+        String clause = builder.build("n", "Person", 2);
+
+        assertThat(builder.build("n", "Person", 2)).isSameAs(clause);
+        assertThat(builds.get()).isEqualTo(1);
+
+        assertThat(builder.build("n", "Person", 1)).isEqualTo(" MATCH p=(n)-[*0..1]-(m) RETURN p");
+        assertThat(builder.build("x", "Person", 2)).isEqualTo(" MATCH p=(x)-[*0..2]-(m) RETURN p");
+        assertThat(builds.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldKeepTheDefaultVariableOfTheDelegate() {
+        LoadClauseBuilder builder = new CachingLoadClauseBuilder(new PathRelationshipLoadClauseBuilder());
+
+        assertThat(builder.build("R", 1)).contains("WITH r, ");
+        assertThat(builder.build("r0", "R", 1)).contains("WITH r0, ");
+    }
+
+    @Test
+    public void shouldNotCacheInvalidDepths() {
+        LoadClauseBuilder builder = new CachingLoadClauseBuilder((variable, label, depth) -> {
+            throw new IllegalArgumentException("depth = " + depth);
+        });
+
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.build("n", "Person", -1));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.build("n", "Person", -1));
+    }
+}
@@ -21,12 +21,19 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.CypherQuery;
+import org.neo4j.ogm.domain.locking.User;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 
 /**
@@ -49,6 +56,27 @@ public class NodeDeleteStatementsTest {
             .isEqualTo("MATCH (n) WHERE ID(n) in $ids OPTIONAL MATCH (n)-[r0]-() DELETE r0, n");
     }
 
+    @Test
+    public void testDeleteManyWithVersions() {
+        ClassInfo classInfo = new MetaData("org.neo4j.ogm.domain.locking").classInfo(User.class);
+        User user = new User("Frantisek");
+        user.setVersion(2L);
+
+        CypherQuery query = statements.delete(Collections.singletonMap(1L, user), classInfo);
+
+        assertThat(query.getStatement()).isEqualTo(
+            "UNWIND $rows AS row "
+                + "MATCH (n)   WHERE id(n) = row.nodeId AND n.`version` = row.`version` "
+                + "SET  n.`version` = n.`version` + 1 "
+                + "WITH n, row  WHERE n.`version` = row.`version` + 1 "
+                + "OPTIONAL MATCH (n)-[r0]-() DELETE r0, n "
+                + "RETURN DISTINCT id(n) AS id");
+        assertThat((List<Map<String, Object>>) query.getParameters().get("rows"))
+            .containsExactly(createRow(1L, 2L));
+        assertThat(query.optimisticLockingConfig()).hasValueSatisfying(
+            config -> assertThat(config.getExpectedResultsCount()).isEqualTo(1));
+    }
+
     @Test
     public void testDeleteAll() {
         assertThat(statements.deleteAll().getStatement())
@@ -84,4 +112,11 @@ public class NodeDeleteStatementsTest {
                 + "OPTIONAL MATCH (n)-[r0]-() "
                 + "DELETE r0, n RETURN ID(n)");
     }
+
+    private static Map<String, Object> createRow(Long nodeId, Long version) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("nodeId", nodeId);
+        row.put("version", version);
+        return row;
+    }
 }